@@ -0,0 +1,85 @@
+package tech.ada.games.jokenpo.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import tech.ada.games.jokenpo.JokenpoApplication;
+import tech.ada.games.jokenpo.dto.MoveDto;
+import tech.ada.games.jokenpo.model.Player;
+import tech.ada.games.jokenpo.model.Role;
+import tech.ada.games.jokenpo.repository.MoveRepository;
+import tech.ada.games.jokenpo.repository.PlayerRepository;
+import tech.ada.games.jokenpo.repository.RoleRepository;
+import tech.ada.games.jokenpo.service.MoveService;
+import tech.ada.games.jokenpo.service.RuleSetRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class BenchmarkApplication {
+
+    static final String PASSWORD = "benchmark";
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String name, String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + name + "-" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.h2.console.enabled=false",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(JokenpoApplication.class).run(args.toArray(String[]::new));
+    }
+
+    static List<Long> createMoves(ConfigurableApplicationContext context) throws Exception {
+        MoveService moveService = context.getBean(MoveService.class);
+        MoveRepository moveRepository = context.getBean(MoveRepository.class);
+        List<Long> ids = new ArrayList<>();
+        for (String label : context.getBean(RuleSetRegistry.class).getDefaultRuleSet().getMoves()) {
+            moveService.createMove(new MoveDto(label));
+            ids.add(moveRepository.findByMove(label).orElseThrow().getId());
+        }
+        return ids;
+    }
+
+    static List<Player> createPlayers(ConfigurableApplicationContext context, String prefix, int count) {
+        PlayerRepository playerRepository = context.getBean(PlayerRepository.class);
+        Role role = context.getBean(RoleRepository.class).findByName("ROLE_USER").orElseThrow();
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Player player = new Player();
+            player.setUsername(prefix + i);
+            player.setName("Jogador " + i);
+            player.setPassword(hash);
+            player.setRoles(Set.of(role));
+            players.add(player);
+        }
+        return playerRepository.saveAll(players);
+    }
+
+    static UsernamePasswordAuthenticationToken authenticationOf(ConfigurableApplicationContext context,
+                                                                String username) {
+        UserDetails userDetails = context.getBean(UserDetailsService.class).loadUserByUsername(username);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    static void actAs(UsernamePasswordAuthenticationToken authentication) {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+}
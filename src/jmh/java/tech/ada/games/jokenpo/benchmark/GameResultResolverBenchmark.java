@@ -0,0 +1,70 @@
+package tech.ada.games.jokenpo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import tech.ada.games.jokenpo.model.Move;
+import tech.ada.games.jokenpo.model.PlayerMove;
+import tech.ada.games.jokenpo.service.GameResultResolver;
+import tech.ada.games.jokenpo.service.MoveCatalog;
+import tech.ada.games.jokenpo.service.RuleSet;
+import tech.ada.games.jokenpo.service.RuleSetRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameResultResolverBenchmark {
+
+    @Param({"2", "8", "64", "1024"})
+    int playerCount;
+
+    @Param({"2", "5", "15"})
+    int distinctMoves;
+
+    @Param({"rpsls", "rps15"})
+    String ruleSetName;
+
+    private GameResultResolver resolver;
+
+    private RuleSet ruleSet;
+
+    private List<PlayerMove> playerMoves;
+
+    @Setup
+    public void setup() throws Exception {
+        RuleSetRegistry registry = new RuleSetRegistry(new ObjectMapper(), new ClassPathResource("rulesets.json"),
+                "rpsls");
+        ruleSet = registry.forName(ruleSetName);
+        MoveCatalog catalog = new MoveCatalog(null, registry);
+        List<Move> moves = new ArrayList<>();
+        for (String label : ruleSet.getMoves()) {
+            Move move = new Move();
+            move.setCode(registry.codeOf(label).orElseThrow());
+            move.setId((long) move.getCode());
+            move.setMove(label);
+            catalog.register(move);
+            moves.add(move);
+        }
+        resolver = new GameResultResolver(catalog);
+        SplittableRandom random = new SplittableRandom(42);
+        int distinct = Math.min(distinctMoves, moves.size());
+        playerMoves = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            PlayerMove playerMove = new PlayerMove();
+            playerMove.setId((long) i);
+            playerMove.setMove(moves.get(random.nextInt(distinct)));
+            playerMoves.add(playerMove);
+        }
+    }
+
+    @Benchmark
+    public GameResultResolver.Result resolve() {
+        return resolver.resolve(ruleSet, playerMoves);
+    }
+
+}
@@ -0,0 +1,81 @@
+package tech.ada.games.jokenpo.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import tech.ada.games.jokenpo.dto.BulkGameDto;
+import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.ResultDto;
+import tech.ada.games.jokenpo.model.Player;
+import tech.ada.games.jokenpo.service.GameService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameServiceBenchmark {
+
+    @Param({"2", "8"})
+    int playerCount;
+
+    @Param({"0", "5000"})
+    int historySize;
+
+    private ConfigurableApplicationContext context;
+
+    private GameService gameService;
+
+    private List<Long> moveIds;
+
+    private List<Long> playerIds;
+
+    private List<UsernamePasswordAuthenticationToken> authentications;
+
+    private int round;
+
+    @Setup
+    public void setup() throws Exception {
+        context = BenchmarkApplication.start("games-" + playerCount + "-" + historySize);
+        gameService = context.getBean(GameService.class);
+        moveIds = BenchmarkApplication.createMoves(context);
+        playerIds = new ArrayList<>();
+        authentications = new ArrayList<>();
+        for (Player player : BenchmarkApplication.createPlayers(context, "game", playerCount)) {
+            playerIds.add(player.getId());
+            authentications.add(BenchmarkApplication.authenticationOf(context, player.getUsername()));
+        }
+        for (int i = 0; i < historySize; i++) {
+            playRound();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void newGame() throws Exception {
+        BenchmarkApplication.actAs(authentications.get(0));
+        gameService.newGame(new GameDto(playerIds));
+    }
+
+    @Benchmark
+    public ResultDto playRound() throws Exception {
+        BenchmarkApplication.actAs(authentications.get(0));
+        Long gameId = gameService.newGames(new BulkGameDto(List.of(new GameDto(playerIds)))).get(0);
+        ResultDto result = null;
+        round++;
+        for (int i = 0; i < playerCount; i++) {
+            BenchmarkApplication.actAs(authentications.get(i));
+            Long moveId = moveIds.get((round + i * 3) % moveIds.size());
+            result = gameService.insertPlayerMove(new GameMoveDto(gameId, moveId));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,51 @@
+package tech.ada.games.jokenpo.benchmark;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import tech.ada.games.jokenpo.security.JwtTokenProvider;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"true", "false"})
+    boolean tokenCache;
+
+    private ConfigurableApplicationContext context;
+
+    private JwtTokenProvider tokenProvider;
+
+    private UsernamePasswordAuthenticationToken authentication;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkApplication.start("jwt-" + tokenCache, "app.jwt-cache.enabled=" + tokenCache);
+        BenchmarkApplication.createPlayers(context, "jwt", 1);
+        tokenProvider = context.getBean(JwtTokenProvider.class);
+        authentication = BenchmarkApplication.authenticationOf(context, "jwt0");
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return tokenProvider.verify(token);
+    }
+
+}
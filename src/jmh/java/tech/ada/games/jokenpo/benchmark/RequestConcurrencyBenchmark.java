@@ -0,0 +1,93 @@
+package tech.ada.games.jokenpo.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import tech.ada.games.jokenpo.dto.BulkGameDto;
+import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.model.Player;
+import tech.ada.games.jokenpo.security.JwtTokenProvider;
+import tech.ada.games.jokenpo.service.GameService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestConcurrencyBenchmark {
+
+    @Param({"false", "true"})
+    boolean virtualThreads;
+
+    @Param({"200", "2000", "5000"})
+    int concurrency;
+
+    private ConfigurableApplicationContext context;
+
+    private ExecutorService clientExecutor;
+
+    private HttpClient client;
+
+    private List<HttpRequest> requests;
+
+    @Setup
+    public void setup() throws Exception {
+        context = BenchmarkApplication.start("requests-" + virtualThreads + "-" + concurrency,
+                "app.virtual-threads.enabled=" + virtualThreads,
+                "server.tomcat.max-connections=" + (concurrency * 2),
+                "server.tomcat.accept-count=" + concurrency);
+        List<Player> players = BenchmarkApplication.createPlayers(context, "http", 2);
+        List<Long> playerIds = players.stream().map(Player::getId).toList();
+        BenchmarkApplication.actAs(BenchmarkApplication.authenticationOf(context, "http0"));
+        List<Long> gameIds = context.getBean(GameService.class)
+                .newGames(new BulkGameDto(Collections.nCopies(1000, new GameDto(playerIds))));
+        String token = context.getBean(JwtTokenProvider.class)
+                .generateToken(BenchmarkApplication.authenticationOf(context, "http0"));
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/api/v1/jokenpo/game";
+        requests = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            String path = i % 2 == 0 ? "?size=20" : "/" + gameIds.get(i % gameIds.size());
+            requests.add(HttpRequest.newBuilder(URI.create(base + path))
+                    .header("Authorization", "Bearer " + token)
+                    .build());
+        }
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        clientExecutor.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int concurrentRequests() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(requests.size());
+        for (HttpRequest request : requests) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200)
+                ok++;
+        }
+        if (ok != requests.size())
+            throw new IllegalStateException((requests.size() - ok) + " requisições falharam");
+        return ok;
+    }
+
+}
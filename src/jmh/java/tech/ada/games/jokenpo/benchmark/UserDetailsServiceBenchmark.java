@@ -0,0 +1,48 @@
+package tech.ada.games.jokenpo.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+import tech.ada.games.jokenpo.security.CustomUserDetailsService;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserDetailsServiceBenchmark {
+
+    @Param({"100", "10000"})
+    int playerCount;
+
+    private ConfigurableApplicationContext context;
+
+    private CustomUserDetailsService userDetailsService;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkApplication.start("users-" + playerCount);
+        BenchmarkApplication.createPlayers(context, "user", playerCount);
+        userDetailsService = context.getBean(CustomUserDetailsService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDetails cachedLookup() {
+        return userDetailsService.loadUserByUsername("user" + (next++ % playerCount));
+    }
+
+    @Benchmark
+    public UserDetails databaseLookup() {
+        String username = "user" + (next++ % playerCount);
+        userDetailsService.evict(username);
+        return userDetailsService.loadUserByUsername(username);
+    }
+
+}
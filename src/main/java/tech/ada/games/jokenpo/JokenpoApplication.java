@@ -6,8 +6,10 @@ import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 @OpenAPIDefinition(info = @Info(title = "Jokenpo StarGame", version = "1.0", description = "Um JOKENPO diferente, " +
 		"onde você tem duas novas jogadas se unindo às tradicionais: Spock e Lagarto! " +
 		"Divirtam-se e boa sorte!"))
@@ -0,0 +1,258 @@
+package tech.ada.games.jokenpo.archive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tech.ada.games.jokenpo.dto.GameViewDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Arquivo frio de jogos finalizados. Cada execução do arquivador grava um segmento imutável com blocos de jogos
+ * comprimidos ([tamanho][crc32c][bloco deflate]) e um índice com o id e o deslocamento do bloco de cada jogo.
+ * O índice só é publicado depois do segmento, então um segmento sem índice é resto de uma gravação interrompida.
+ */
+@Component
+@ConditionalOnProperty(value = "app.archive.enabled", havingValue = "true")
+@Slf4j
+public class GameArchive {
+
+    private static final int MAGIC = 0x4a4b5041;
+
+    @Value("${app.archive.directory:/data/archive}")
+    private Path directory;
+
+    @Value("${app.archive.games-per-block:64}")
+    private int gamesPerBlock;
+
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    private final Cache<Long, Map<Long, GameViewDto>> blocks = Caffeine.newBuilder().maximumSize(256).build();
+
+    private int nextSegment;
+
+    @PostConstruct
+    void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.sorted().toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(".index.tmp"))
+                Files.delete(file);
+            if (!name.matches("\\d{10}\\.archive"))
+                continue;
+            int number = Integer.parseInt(name.substring(0, 10));
+            nextSegment = Math.max(nextSegment, number + 1);
+            Path index = indexFile(number);
+            if (!Files.exists(index)) {
+                log.warn("Segmento {} do arquivo sem índice, descartado", number);
+                Files.delete(file);
+                continue;
+            }
+            segments.add(Segment.open(number, file, index));
+        }
+        log.info("{} jogos arquivados em {} segmentos", archivedGames(), segments.size());
+    }
+
+    @PreDestroy
+    void close() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    public synchronized void write(List<GameViewDto> games) throws IOException {
+        if (games.isEmpty())
+            return;
+        List<GameViewDto> sorted = new ArrayList<>(games);
+        sorted.sort(Comparator.comparing(GameViewDto::getId));
+        int number = nextSegment++;
+        Path file = segmentFile(number);
+        long[] ids = new long[sorted.size()];
+        int[] offsets = new int[sorted.size()];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, MAGIC));
+            for (int from = 0; from < sorted.size(); from += gamesPerBlock) {
+                int to = Math.min(from + gamesPerBlock, sorted.size());
+                int offset = (int) channel.position();
+                channel.write(compress(sorted.subList(from, to)));
+                for (int i = from; i < to; i++) {
+                    ids[i] = sorted.get(i).getId();
+                    offsets[i] = offset;
+                }
+            }
+            channel.force(true);
+        }
+        Path temporary = directory.resolve(String.format("%010d.index.tmp", number));
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temporary))) {
+            out.writeInt(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                out.writeLong(ids[i]);
+                out.writeInt(offsets[i]);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, indexFile(number), StandardCopyOption.ATOMIC_MOVE);
+        segments.add(new Segment(number, FileChannel.open(file, StandardOpenOption.READ), ids, offsets));
+        log.info("Segmento {} do arquivo gravado com {} jogos ({} bytes)", number, ids.length, Files.size(file));
+    }
+
+    public boolean contains(Long gameId) {
+        return locate(gameId) != null;
+    }
+
+    public Optional<GameViewDto> find(Long gameId) {
+        Segment segment = locate(gameId);
+        if (segment == null)
+            return Optional.empty();
+        int offset = segment.offsets[Arrays.binarySearch(segment.ids, gameId)];
+        Map<Long, GameViewDto> block = blocks.get(((long) segment.number << 32) | offset,
+                key -> segment.readBlock(offset));
+        return Optional.ofNullable(block.get(gameId));
+    }
+
+    public long archivedGames() {
+        return segments.stream().mapToLong(segment -> segment.ids.length).sum();
+    }
+
+    private Segment locate(Long gameId) {
+        if (gameId == null)
+            return null;
+        for (Segment segment : segments) {
+            if (segment.ids.length > 0 && gameId >= segment.ids[0] && gameId <= segment.ids[segment.ids.length - 1]
+                    && Arrays.binarySearch(segment.ids, gameId) >= 0)
+                return segment;
+        }
+        return null;
+    }
+
+    private static ByteBuffer compress(List<GameViewDto> games) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(compressed, deflater))) {
+            GameCodec.writeHeader(out, games.size());
+            for (GameViewDto game : games) {
+                GameCodec.write(out, game);
+            }
+        } finally {
+            deflater.end();
+        }
+        byte[] bytes = compressed.toByteArray();
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        ByteBuffer block = ByteBuffer.allocate(2 * Integer.BYTES + bytes.length);
+        block.putInt(bytes.length).putInt((int) crc.getValue()).put(bytes);
+        return block.flip();
+    }
+
+    private Path segmentFile(int number) {
+        return directory.resolve(String.format("%010d.archive", number));
+    }
+
+    private Path indexFile(int number) {
+        return directory.resolve(String.format("%010d.index", number));
+    }
+
+    private static class Segment {
+
+        private final int number;
+        private final FileChannel channel;
+        private final long[] ids;
+        private final int[] offsets;
+
+        Segment(int number, FileChannel channel, long[] ids, int[] offsets) {
+            this.number = number;
+            this.channel = channel;
+            this.ids = ids;
+            this.offsets = offsets;
+        }
+
+        static Segment open(int number, Path file, Path index) throws IOException {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(index))) {
+                int count = in.readInt();
+                long[] ids = new long[count];
+                int[] offsets = new int[count];
+                for (int i = 0; i < count; i++) {
+                    ids[i] = in.readLong();
+                    offsets[i] = in.readInt();
+                }
+                return new Segment(number, FileChannel.open(file, StandardOpenOption.READ), ids, offsets);
+            }
+        }
+
+        Map<Long, GameViewDto> readBlock(int offset) {
+            try {
+                ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES);
+                readFully(header, offset);
+                byte[] bytes = new byte[header.getInt(0)];
+                readFully(ByteBuffer.wrap(bytes), offset + header.capacity());
+                CRC32C crc = new CRC32C();
+                crc.update(bytes);
+                if ((int) crc.getValue() != header.getInt(Integer.BYTES))
+                    throw new IOException("Bloco " + offset + " do segmento " + number + " corrompido");
+                try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes)))) {
+                    GameCodec.Header format = GameCodec.readHeader(in);
+                    Map<Long, GameViewDto> games = new HashMap<>(format.games() * 2);
+                    for (int i = 0; i < format.games(); i++) {
+                        GameViewDto game = GameCodec.read(in, format.version());
+                        games.put(game.getId(), game);
+                    }
+                    return games;
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0)
+                    throw new IOException("Segmento " + number + " do arquivo truncado");
+            }
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                log.warn("Falha ao fechar o segmento {} do arquivo", number, ex);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package tech.ada.games.jokenpo.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tech.ada.games.jokenpo.service.GameService;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Move periodicamente os jogos finalizados mais antigos que o limite configurado para o {@link GameArchive} e os
+ * remove das tabelas. Os jogos só saem do banco depois que o segmento e o índice estão gravados em disco.
+ */
+@Component
+@ConditionalOnProperty(value = "app.archive.enabled", havingValue = "true")
+@Slf4j
+public class GameArchiver {
+
+    private final GameArchive gameArchive;
+    private final GameService gameService;
+
+    @Value("${app.archive.older-than-days:30}")
+    private int olderThanDays;
+
+    @Value("${app.archive.batch-size:5000}")
+    private int batchSize;
+
+    public GameArchiver(GameArchive gameArchive, GameService gameService) {
+        this.gameArchive = gameArchive;
+        this.gameService = gameService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:3600000}", initialDelayString = "${app.archive.initial-delay-ms:60000}")
+    public void archive() {
+        LocalDateTime before = LocalDateTime.now().minusDays(olderThanDays);
+        int archived = 0;
+        try {
+            List<Long> gameIds;
+            do {
+                gameIds = gameService.findArchivableGameIds(before, batchSize);
+                if (gameIds.isEmpty())
+                    break;
+                // Jogos já gravados em uma execução interrompida antes da remoção só precisam sair do banco
+                List<Long> pending = gameIds.stream().filter(id -> !gameArchive.contains(id)).toList();
+                gameArchive.write(gameService.findGameViews(pending));
+                gameService.deleteGames(gameIds);
+                archived += gameIds.size();
+            } while (gameIds.size() == batchSize);
+        } catch (IOException | RuntimeException ex) {
+            log.error("Falha ao arquivar jogos finalizados", ex);
+        }
+        if (archived > 0)
+            log.info("{} jogos finalizados antes de {} arquivados", archived, before);
+    }
+
+}
@@ -0,0 +1,150 @@
+package tech.ada.games.jokenpo.archive;
+
+import tech.ada.games.jokenpo.dto.GameViewDto;
+import tech.ada.games.jokenpo.dto.MoveViewDto;
+import tech.ada.games.jokenpo.dto.PlayerMoveViewDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Formato binário de um jogo arquivado. Os vencedores são gravados como índices na lista de jogadores, já que
+ * todo vencedor também é jogador da partida.
+ * <p>
+ * Cada bloco começa com a versão do formato. Blocos da versão 1 não têm cabeçalho e começam direto pela
+ * quantidade de jogos, sempre positiva, então o primeiro byte nunca coincide com o marcador de versão.
+ */
+final class GameCodec {
+
+    static final int VERSION = 2;
+
+    private static final int VERSION_MARKER = 0xff;
+
+    private GameCodec() {
+    }
+
+    static void writeHeader(DataOutput out, int games) throws IOException {
+        out.writeByte(VERSION_MARKER);
+        out.writeByte(VERSION);
+        out.writeShort(games);
+    }
+
+    static Header readHeader(DataInput in) throws IOException {
+        int first = in.readUnsignedByte();
+        if (first != VERSION_MARKER)
+            return new Header(1, first << 8 | in.readUnsignedByte());
+        int version = in.readUnsignedByte();
+        if (version > VERSION)
+            throw new IOException("Versão " + version + " do formato de arquivo não suportada");
+        return new Header(version, in.readUnsignedShort());
+    }
+
+    static void write(DataOutput out, GameViewDto game) throws IOException {
+        out.writeLong(game.getId());
+        out.writeBoolean(game.getCreatedAt() != null);
+        if (game.getCreatedAt() != null) {
+            out.writeLong(game.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(game.getCreatedAt().getNano());
+        }
+        out.writeBoolean(game.getCreator() != null);
+        if (game.getCreator() != null)
+            writePlayer(out, game.getCreator());
+        writeInteger(out, game.getBestOf());
+        writeInteger(out, game.getRound());
+        Map<Long, Integer> indexes = new HashMap<>();
+        out.writeShort(game.getPlayers().size());
+        for (PlayerMoveViewDto playerMove : game.getPlayers()) {
+            indexes.putIfAbsent(playerMove.getPlayer().getId(), indexes.size());
+            out.writeLong(playerMove.getId());
+            writePlayer(out, playerMove.getPlayer());
+            MoveViewDto move = playerMove.getMove();
+            out.writeBoolean(move != null);
+            if (move != null) {
+                out.writeLong(move.getId());
+                writeString(out, move.getMove());
+                out.writeByte(move.getCode() == null ? 0 : move.getCode());
+            }
+            writeInteger(out, playerMove.getScore());
+        }
+        out.writeShort(game.getWinners().size());
+        for (PlayerViewDto winner : game.getWinners()) {
+            out.writeShort(indexes.getOrDefault(winner.getId(), -1));
+            if (!indexes.containsKey(winner.getId()))
+                writePlayer(out, winner);
+        }
+    }
+
+    static GameViewDto read(DataInput in, int version) throws IOException {
+        GameViewDto game = new GameViewDto();
+        game.setId(in.readLong());
+        if (in.readBoolean())
+            game.setCreatedAt(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC));
+        game.setFinished(true);
+        if (in.readBoolean())
+            game.setCreator(readPlayer(in));
+        if (version >= 2) {
+            game.setBestOf(readInteger(in));
+            game.setRound(readInteger(in));
+        }
+        int players = in.readShort();
+        for (int i = 0; i < players; i++) {
+            long id = in.readLong();
+            PlayerViewDto player = readPlayer(in);
+            MoveViewDto move = null;
+            if (in.readBoolean()) {
+                long moveId = in.readLong();
+                String label = readString(in);
+                int code = in.readUnsignedByte();
+                move = new MoveViewDto(moveId, label, code == 0 ? null : code);
+            }
+            Integer score = version >= 2 ? readInteger(in) : null;
+            game.getPlayers().add(new PlayerMoveViewDto(game.getId(), id, player, move, score));
+        }
+        int winners = in.readShort();
+        for (int i = 0; i < winners; i++) {
+            int index = in.readShort();
+            game.getWinners().add(index < 0 ? readPlayer(in) : game.getPlayers().get(index).getPlayer());
+        }
+        return game;
+    }
+
+    private static void writePlayer(DataOutput out, PlayerViewDto player) throws IOException {
+        out.writeLong(player.getId());
+        writeString(out, player.getUsername());
+        writeString(out, player.getName());
+    }
+
+    private static PlayerViewDto readPlayer(DataInput in) throws IOException {
+        return new PlayerViewDto(in.readLong(), readString(in), readString(in));
+    }
+
+    private static void writeInteger(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeInt(value);
+    }
+
+    private static Integer readInteger(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeUTF(value);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    record Header(int version, int games) {
+    }
+
+}
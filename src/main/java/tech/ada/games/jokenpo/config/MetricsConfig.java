@@ -0,0 +1,56 @@
+package tech.ada.games.jokenpo.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tech.ada.games.jokenpo.metrics.SqlStatementCounter;
+import tech.ada.games.jokenpo.service.GameResolutionQueue;
+import tech.ada.games.jokenpo.service.LobbyService;
+import tech.ada.games.jokenpo.service.PendingMovesTracker;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    // no modo com journal as jogadas não passam pelo PendingMovesTracker
+    @Bean
+    @ConditionalOnProperty(value = "app.journal.enabled", havingValue = "false", matchIfMissing = true)
+    public MeterBinder pendingMoveMetrics(PendingMovesTracker pendingMovesTracker) {
+        return registry -> {
+            Gauge.builder("jokenpo.games.open", pendingMovesTracker, PendingMovesTracker::openGames)
+                    .description("Jogos em andamento")
+                    .register(registry);
+            Gauge.builder("jokenpo.moves.pending", pendingMovesTracker, PendingMovesTracker::pendingMoves)
+                    .description("Jogadas pendentes nos jogos em andamento")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder gameMetrics(GameResolutionQueue gameResolutionQueue, LobbyService lobbyService) {
+        return registry -> {
+            Gauge.builder("jokenpo.games.resolution.queue", gameResolutionQueue, GameResolutionQueue::size)
+                    .description("Jogos aguardando o processamento do resultado")
+                    .register(registry);
+            Gauge.builder("jokenpo.lobby.waiting", lobbyService, LobbyService::waitingPlayers)
+                    .description("Jogadores aguardando no lobby")
+                    .register(registry);
+        };
+    }
+
+}
@@ -1,5 +1,8 @@
 package tech.ada.games.jokenpo.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,6 +17,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tech.ada.games.jokenpo.security.BoundedPasswordEncoder;
 import tech.ada.games.jokenpo.security.JwtAuthenticationEntryPoint;
 import tech.ada.games.jokenpo.security.JwtAuthenticationFilter;
 
@@ -32,8 +36,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    public static PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public static PasswordEncoder passwordEncoder(@Value("${app.password.bcrypt-strength:10}") int strength,
+                                                  @Value("${app.password.hashing-threads:0}") int threads,
+                                                  @Value("${app.password.hashing-queue:64}") int queueCapacity,
+                                                  MeterRegistry registry) {
+        if (threads <= 0)
+            threads = Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, registry);
     }
 
     @Bean
@@ -46,6 +55,7 @@ public class SecurityConfig {
         http
                 .cors().and().csrf().disable().headers().frameOptions().disable().and()
                 .authorizeHttpRequests((auth) -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/jokenpo/login").permitAll()
                         .requestMatchers("/api/v1/jokenpo/player/create").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
@@ -1,12 +1,20 @@
 package tech.ada.games.jokenpo.controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.ada.games.jokenpo.dto.BulkGameDto;
+import tech.ada.games.jokenpo.dto.BulkMoveDto;
 import tech.ada.games.jokenpo.dto.GameDto;
 import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.GamePageDto;
+import tech.ada.games.jokenpo.dto.GameViewDto;
+import tech.ada.games.jokenpo.dto.MoveResultDto;
 import tech.ada.games.jokenpo.dto.ResultDto;
-import tech.ada.games.jokenpo.model.Game;
 import tech.ada.games.jokenpo.exception.BadRequestException;
 import tech.ada.games.jokenpo.exception.DataConflictException;
 import tech.ada.games.jokenpo.exception.DataNotFoundException;
@@ -18,6 +26,8 @@ import java.util.List;
 @RequestMapping("/api/v1/jokenpo/game")
 public class GameController implements GameControllerDocs {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final GameService gameService;
 
     public GameController(GameService gameService) {
@@ -27,23 +37,58 @@ public class GameController implements GameControllerDocs {
     @PostMapping("/new")
     public ResponseEntity<Void> newGame(@RequestBody GameDto gameDto) throws BadRequestException,
             DataNotFoundException {
-        gameService.newGame(gameDto);
-        return new ResponseEntity<>(HttpStatus.CREATED);
+        Long id = gameService.newGame(gameDto);
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/jokenpo/game/{id}").buildAndExpand(id).toUri()).build();
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<List<Long>> newGames(@RequestBody BulkGameDto bulkGameDto) throws BadRequestException,
+            DataNotFoundException {
+        return new ResponseEntity<>(gameService.newGames(bulkGameDto), HttpStatus.CREATED);
     }
 
     @PostMapping("/move")
     public ResponseEntity<ResultDto> insertPlayerMove(@RequestBody GameMoveDto gameMove) throws BadRequestException,
             DataNotFoundException, DataConflictException {
-        return new ResponseEntity<>(gameService.insertPlayerMove(gameMove), HttpStatus.OK);
+        ResultDto result = gameService.insertPlayerMove(gameMove);
+        return new ResponseEntity<>(result, result.isPending() ? HttpStatus.ACCEPTED : HttpStatus.OK);
+    }
+
+    @PostMapping("/move/batch")
+    public ResponseEntity<List<MoveResultDto>> insertPlayerMoves(@RequestBody BulkMoveDto bulkMoveDto)
+            throws BadRequestException, DataNotFoundException {
+        return new ResponseEntity<>(gameService.insertPlayerMoves(bulkMoveDto), HttpStatus.OK);
     }
 
     @GetMapping("")
-    public ResponseEntity<List<Game>> findGames() {
-        return new ResponseEntity<>(gameService.findGames(), HttpStatus.OK);
+    public ResponseEntity<GamePageDto> findGames(@RequestParam(required = false) Long after,
+                                                 @RequestParam(defaultValue = "20") int size,
+                                                 @RequestParam(required = false) Boolean finished,
+                                                 @RequestParam(required = false) Long creatorId)
+            throws BadRequestException {
+        return new ResponseEntity<>(gameService.findGames(after, size, finished, creatorId), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamGames(@RequestParam(required = false) Boolean finished,
+                                                             @RequestParam(required = false) Long creatorId) {
+        StreamingResponseBody body = out -> gameService.streamGames(finished, creatorId, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter playerEvents() throws DataNotFoundException {
+        return gameService.subscribePlayer();
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter gameEvents(@PathVariable Long id) throws DataNotFoundException {
+        return gameService.subscribeGame(id);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Game> findGame(@PathVariable Long id) throws DataNotFoundException {
+    public ResponseEntity<GameViewDto> findGame(@PathVariable Long id) throws DataNotFoundException {
         return new ResponseEntity<>(gameService.findGameById(id), HttpStatus.OK);
     }
 
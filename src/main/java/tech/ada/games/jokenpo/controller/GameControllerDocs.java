@@ -9,10 +9,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tech.ada.games.jokenpo.dto.BulkGameDto;
+import tech.ada.games.jokenpo.dto.BulkMoveDto;
 import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.dto.GameEventDto;
 import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.GamePageDto;
+import tech.ada.games.jokenpo.dto.GameViewDto;
+import tech.ada.games.jokenpo.dto.MoveResultDto;
 import tech.ada.games.jokenpo.dto.ResultDto;
-import tech.ada.games.jokenpo.model.Game;
 import tech.ada.games.jokenpo.exception.BadRequestException;
 import tech.ada.games.jokenpo.exception.DataConflictException;
 import tech.ada.games.jokenpo.exception.DataNotFoundException;
@@ -23,8 +31,10 @@ public interface GameControllerDocs {
 
     @Operation(summary = "Registro de um novo jogo", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Jogo iniciado com sucesso!", content = @Content),
-            @ApiResponse(responseCode = "400", description = "O jogo possui menos que dois jogadores!", content = @Content),
+            @ApiResponse(responseCode = "201", description = "Jogo iniciado com sucesso! O cabeçalho Location " +
+                    "aponta para o jogo criado", content = @Content),
+            @ApiResponse(responseCode = "400", description = "O jogo possui menos que dois jogadores ou número de " +
+                    "rodadas (bestOf) inválido!", content = @Content),
             @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
             @ApiResponse(responseCode = "404", description = "O jogador não está cadastrado!", content = @Content),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
@@ -32,10 +42,30 @@ public interface GameControllerDocs {
     ResponseEntity<Void> newGame(@RequestBody GameDto gameDto) throws BadRequestException,
             DataNotFoundException;
 
+    @Operation(summary = "Registro de vários jogos de uma só vez", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Jogos iniciados com sucesso! Retorna os ids dos jogos " +
+                    "na mesma ordem do pedido",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = List.class))}),
+            @ApiResponse(responseCode = "400", description = "Algum jogo possui menos que dois jogadores ou o lote " +
+                    "está vazio ou é grande demais", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Algum jogador não está cadastrado!", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<List<Long>> newGames(@RequestBody BulkGameDto bulkGameDto) throws BadRequestException,
+            DataNotFoundException;
+
     @Operation(summary = "Registro de uma jogada do jogador logado", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Jogada realizada! Caso todos os jogadores da partida tenham " +
-                    "realizado suas jogadas, a partida encerra com o resultado final!",
+                    "realizado suas jogadas, a rodada é encerrada e, nas partidas melhor de N (bestOf), a próxima " +
+                    "rodada começa até que um jogador vença a maioria delas",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ResultDto.class))}),
+            @ApiResponse(responseCode = "202", description = "Última jogada registrada com o processamento " +
+                    "assíncrono ativo. O resultado é publicado nos eventos do jogo",
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ResultDto.class))}),
             @ApiResponse(responseCode = "400", description = "O jogo já foi finalizado!", content = @Content),
@@ -47,25 +77,79 @@ public interface GameControllerDocs {
     ResponseEntity<ResultDto> insertPlayerMove(@RequestBody GameMoveDto gameMove) throws BadRequestException,
             DataNotFoundException, DataConflictException;
 
-    @Operation(summary = "Retorna uma lista de jogos cadastrados", security = @SecurityRequirement(name = "bearerAuth"))
+    @Operation(summary = "Registro de várias jogadas do jogador logado de uma só vez", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogadas processadas. Retorna um resultado por jogada, na " +
+                    "mesma ordem do pedido, com o status que a jogada teria em /move e a mensagem de erro quando " +
+                    "ela não foi aceita. As jogadas aceitas são gravadas mesmo que outras falhem",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = List.class))}),
+            @ApiResponse(responseCode = "400", description = "O lote está vazio ou é grande demais", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "O jogador não está cadastrado!", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<List<MoveResultDto>> insertPlayerMoves(@RequestBody BulkMoveDto bulkMoveDto)
+            throws BadRequestException, DataNotFoundException;
+
+    @Operation(summary = "Retorna uma página de jogos cadastrados, ordenada pelo id", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de jogos cadastrados",
+            @ApiResponse(responseCode = "200", description = "Página de jogos cadastrados. Use nextCursor no " +
+                    "parâmetro after para obter a próxima página",
                 content = { @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = List.class))}),
+                    schema = @Schema(implementation = GamePageDto.class))}),
+            @ApiResponse(responseCode = "400", description = "Tamanho de página inválido", content = @Content),
             @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
     })
-    ResponseEntity<List<Game>> findGames();
+    ResponseEntity<GamePageDto> findGames(@RequestParam(required = false) Long after,
+                                          @RequestParam(defaultValue = "20") int size,
+                                          @RequestParam(required = false) Boolean finished,
+                                          @RequestParam(required = false) Long creatorId) throws BadRequestException;
+
+    @Operation(summary = "Retorna todos os jogos cadastrados em NDJSON, um jogo por linha", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogos cadastrados, enviados à medida que são lidos",
+                content = { @Content(mediaType = "application/x-ndjson",
+                    schema = @Schema(implementation = GameViewDto.class))}),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<StreamingResponseBody> streamGames(@RequestParam(required = false) Boolean finished,
+                                                      @RequestParam(required = false) Long creatorId);
+
+    @Operation(summary = "Eventos (SSE) dos jogos do jogador logado", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Eventos move a cada jogada, round ao final de cada " +
+                    "rodada das partidas melhor de N e result ao final de cada jogo do jogador",
+                content = { @Content(mediaType = "text/event-stream",
+                    schema = @Schema(implementation = GameEventDto.class))}),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    SseEmitter playerEvents() throws DataNotFoundException;
+
+    @Operation(summary = "Eventos (SSE) de um jogo", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Evento game com o estado atual, move a cada jogada, " +
+                    "round ao final de cada rodada e result ao final, quando a conexão é encerrada",
+                content = { @Content(mediaType = "text/event-stream",
+                    schema = @Schema(implementation = GameEventDto.class))}),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Este jogo não está cadastrado", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    SseEmitter gameEvents(@PathVariable Long id) throws DataNotFoundException;
 
     @Operation(summary = "Retorna um jogo registrada pelo id", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Jogo encontrado com sucesso",
                 content = { @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Game.class))}),
+                    schema = @Schema(implementation = GameViewDto.class))}),
             @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
             @ApiResponse(responseCode = "404", description = "Este jogo não está cadastrado", content = @Content),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
     })
-    ResponseEntity<Game> findGame(@PathVariable Long id) throws DataNotFoundException;
+    ResponseEntity<GameViewDto> findGame(@PathVariable Long id) throws DataNotFoundException;
 
 }
@@ -0,0 +1,39 @@
+package tech.ada.games.jokenpo.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.ada.games.jokenpo.dto.LobbyTicketDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataConflictException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.service.LobbyService;
+
+@RestController
+@RequestMapping("/api/v1/jokenpo/lobby")
+public class LobbyController implements LobbyControllerDocs {
+
+    private final LobbyService lobbyService;
+
+    public LobbyController(LobbyService lobbyService) {
+        this.lobbyService = lobbyService;
+    }
+
+    @PostMapping("")
+    public ResponseEntity<LobbyTicketDto> enqueue(@RequestParam(defaultValue = "2") int size)
+            throws BadRequestException, DataNotFoundException, DataConflictException {
+        return new ResponseEntity<>(lobbyService.enqueue(size), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("")
+    public ResponseEntity<LobbyTicketDto> findTicket() throws DataNotFoundException {
+        return new ResponseEntity<>(lobbyService.findTicket(), HttpStatus.OK);
+    }
+
+    @DeleteMapping("")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void leave() throws DataNotFoundException {
+        lobbyService.leave();
+    }
+
+}
@@ -0,0 +1,53 @@
+package tech.ada.games.jokenpo.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+import tech.ada.games.jokenpo.dto.LobbyTicketDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataConflictException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+
+public interface LobbyControllerDocs {
+
+    @Operation(summary = "Entrada do jogador logado no lobby para um jogo de size jogadores", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Jogador aguardando. O jogo formado é avisado pelo " +
+                    "evento match em /api/v1/jokenpo/game/events e em GET /api/v1/jokenpo/lobby",
+                content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = LobbyTicketDto.class))}),
+            @ApiResponse(responseCode = "400", description = "Tamanho de jogo inválido", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Jogador já está aguardando no lobby!", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<LobbyTicketDto> enqueue(@RequestParam(defaultValue = "2") int size)
+            throws BadRequestException, DataNotFoundException, DataConflictException;
+
+    @Operation(summary = "Situação do jogador logado no lobby", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogador aguardando ou, quando gameId está " +
+                    "preenchido, jogo formado",
+                content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = LobbyTicketDto.class))}),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Jogador não está no lobby!", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<LobbyTicketDto> findTicket() throws DataNotFoundException;
+
+    @Operation(summary = "Saída do jogador logado do lobby", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Jogador saiu do lobby", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Jogador não está no lobby!", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    void leave() throws DataNotFoundException;
+
+}
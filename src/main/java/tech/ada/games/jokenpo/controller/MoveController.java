@@ -4,10 +4,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.ada.games.jokenpo.dto.MoveDto;
+import tech.ada.games.jokenpo.dto.MoveViewDto;
+import tech.ada.games.jokenpo.dto.RuleSetDto;
 import tech.ada.games.jokenpo.exception.BadRequestException;
 import tech.ada.games.jokenpo.exception.DataConflictException;
 import tech.ada.games.jokenpo.exception.DataNotFoundException;
-import tech.ada.games.jokenpo.model.Move;
 import tech.ada.games.jokenpo.service.MoveService;
 
 import java.util.List;
@@ -29,12 +30,17 @@ public class MoveController implements MoveControllerDocs {
     }
 
     @GetMapping("")
-    public ResponseEntity<List<Move>> findMoves() throws DataNotFoundException {
+    public ResponseEntity<List<MoveViewDto>> findMoves() throws DataNotFoundException {
         return new ResponseEntity<>(moveService.findMoves(), HttpStatus.OK);
     }
 
+    @GetMapping("/rulesets")
+    public ResponseEntity<List<RuleSetDto>> findRuleSets() {
+        return new ResponseEntity<>(moveService.findRuleSets(), HttpStatus.OK);
+    }
+
     @GetMapping("/{move}")
-    public ResponseEntity<Move> findMove(@PathVariable String move) throws DataNotFoundException {
+    public ResponseEntity<MoveViewDto> findMove(@PathVariable String move) throws DataNotFoundException {
         return new ResponseEntity<>(moveService.findByMove(move), HttpStatus.OK);
     }
 
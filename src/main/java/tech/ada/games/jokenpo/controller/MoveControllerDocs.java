@@ -10,10 +10,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import tech.ada.games.jokenpo.dto.MoveDto;
+import tech.ada.games.jokenpo.dto.MoveViewDto;
+import tech.ada.games.jokenpo.dto.RuleSetDto;
 import tech.ada.games.jokenpo.exception.BadRequestException;
 import tech.ada.games.jokenpo.exception.DataConflictException;
 import tech.ada.games.jokenpo.exception.DataNotFoundException;
-import tech.ada.games.jokenpo.model.Move;
 
 import java.util.List;
 
@@ -22,7 +23,7 @@ public interface MoveControllerDocs {
     @Operation(summary = "Registro de uma nova jogada", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Jogada criada com sucesso", content = @Content),
-            @ApiResponse(responseCode = "400", description = "Você pode cadastrar apenas os movimentos Spock, Tesoura, Papel, Pedra e Lagarto", content = @Content),
+            @ApiResponse(responseCode = "400", description = "A jogada não faz parte de nenhum conjunto de regras", content = @Content),
             @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
             @ApiResponse(responseCode = "409", description = "A jogada já está cadastrada", content = @Content),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
@@ -38,17 +39,27 @@ public interface MoveControllerDocs {
             @ApiResponse(responseCode = "404", description = "Não há jogadas cadastradas", content = @Content),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
     })
-    ResponseEntity<List<Move>> findMoves() throws DataNotFoundException;
+    ResponseEntity<List<MoveViewDto>> findMoves() throws DataNotFoundException;
+
+    @Operation(summary = "Retorna os conjuntos de regras disponíveis para os jogos", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de conjuntos de regras",
+                content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = List.class))}),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<List<RuleSetDto>> findRuleSets();
 
     @Operation(summary = "Retorna uma jogada registrada pelo nome", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Jogada encontrada com sucesso",
                 content = { @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Move.class))}),
+                    schema = @Schema(implementation = MoveViewDto.class))}),
             @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
             @ApiResponse(responseCode = "404", description = "A jogada não está cadastrada", content = @Content),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
     })
-    ResponseEntity<Move> findMove(@PathVariable String move) throws DataNotFoundException;
+    ResponseEntity<MoveViewDto> findMove(@PathVariable String move) throws DataNotFoundException;
 
 }
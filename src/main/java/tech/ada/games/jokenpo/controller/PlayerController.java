@@ -3,10 +3,13 @@ package tech.ada.games.jokenpo.controller;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import tech.ada.games.jokenpo.dto.LeaderboardEntryDto;
 import tech.ada.games.jokenpo.dto.PlayerDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
 import tech.ada.games.jokenpo.exception.DataConflictException;
 import tech.ada.games.jokenpo.exception.DataNotFoundException;
-import tech.ada.games.jokenpo.model.Player;
+import tech.ada.games.jokenpo.service.LeaderboardService;
 import tech.ada.games.jokenpo.service.PlayerService;
 
 import java.util.List;
@@ -16,9 +19,11 @@ import java.util.List;
 public class PlayerController implements PlayerControllerDocs {
 
     private final PlayerService playerService;
+    private final LeaderboardService leaderboardService;
 
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService, LeaderboardService leaderboardService) {
         this.playerService = playerService;
+        this.leaderboardService = leaderboardService;
     }
 
     @PostMapping("/create")
@@ -28,12 +33,26 @@ public class PlayerController implements PlayerControllerDocs {
     }
 
     @GetMapping("")
-    public ResponseEntity<List<Player>> findPlayers() throws DataNotFoundException {
+    public ResponseEntity<List<PlayerViewDto>> findPlayers() throws DataNotFoundException {
         return new ResponseEntity<>(playerService.findPlayers(), HttpStatus.OK);
     }
 
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryDto>> leaderboard(@RequestParam(defaultValue = "0") int page,
+                                                                 @RequestParam(defaultValue = "20") int size)
+            throws BadRequestException {
+        return new ResponseEntity<>(leaderboardService.findPage(page, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/leaderboard/{id}")
+    public ResponseEntity<List<LeaderboardEntryDto>> leaderboardPosition(@PathVariable Long id,
+                                                                         @RequestParam(defaultValue = "5") int neighbours)
+            throws BadRequestException, DataNotFoundException {
+        return new ResponseEntity<>(leaderboardService.findNeighbours(id, neighbours), HttpStatus.OK);
+    }
+
     @GetMapping("/{player}")
-    public ResponseEntity<Player> findPlayer(@PathVariable String player) throws DataNotFoundException {
+    public ResponseEntity<PlayerViewDto> findPlayer(@PathVariable String player) throws DataNotFoundException {
         return new ResponseEntity<>(playerService.findByPlayer(player), HttpStatus.OK);
     }
 
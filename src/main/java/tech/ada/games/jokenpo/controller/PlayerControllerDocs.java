@@ -9,10 +9,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import tech.ada.games.jokenpo.dto.LeaderboardEntryDto;
 import tech.ada.games.jokenpo.dto.PlayerDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
 import tech.ada.games.jokenpo.exception.DataConflictException;
 import tech.ada.games.jokenpo.exception.DataNotFoundException;
-import tech.ada.games.jokenpo.model.Player;
 
 import java.util.List;
 
@@ -36,18 +39,46 @@ public interface PlayerControllerDocs {
             @ApiResponse(responseCode = "404", description = "Não há jogadores cadastrados", content = @Content),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
     })
-    ResponseEntity<List<Player>> findPlayers() throws DataNotFoundException;
+    ResponseEntity<List<PlayerViewDto>> findPlayers() throws DataNotFoundException;
+
+    @Operation(summary = "Retorna uma página do ranking de jogadores", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogadores ordenados por vitórias e, em caso de empate, " +
+                    "por menos derrotas",
+                content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = List.class))}),
+            @ApiResponse(responseCode = "400", description = "Página ou tamanho de página inválidos", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<List<LeaderboardEntryDto>> leaderboard(@RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "20") int size)
+            throws BadRequestException;
+
+    @Operation(summary = "Retorna a posição de um jogador no ranking e seus vizinhos", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogadores ao redor da posição do jogador informado",
+                content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = List.class))}),
+            @ApiResponse(responseCode = "400", description = "Número de vizinhos inválido", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "O jogador não está cadastrado", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<List<LeaderboardEntryDto>> leaderboardPosition(@PathVariable Long id,
+                                                                  @RequestParam(defaultValue = "5") int neighbours)
+            throws BadRequestException, DataNotFoundException;
 
     @Operation(summary = "Retorna um jogador registrado pelo nome", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Jogador encontrado com sucesso",
                 content = { @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Player.class))}),
+                    schema = @Schema(implementation = PlayerViewDto.class))}),
             @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
             @ApiResponse(responseCode = "404", description = "O jogador não está cadastrado", content = @Content),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
     })
-    ResponseEntity<Player> findPlayer(@PathVariable String player) throws DataNotFoundException;
+    ResponseEntity<PlayerViewDto> findPlayer(@PathVariable String player) throws DataNotFoundException;
 
     @Operation(summary = "Exclui um jogador pelo seu id", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
@@ -0,0 +1,54 @@
+package tech.ada.games.jokenpo.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.ada.games.jokenpo.dto.TournamentDto;
+import tech.ada.games.jokenpo.dto.TournamentMatchDto;
+import tech.ada.games.jokenpo.dto.TournamentStandingDto;
+import tech.ada.games.jokenpo.dto.TournamentViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.service.TournamentService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/jokenpo/tournament")
+public class TournamentController implements TournamentControllerDocs {
+
+    private final TournamentService tournamentService;
+
+    public TournamentController(TournamentService tournamentService) {
+        this.tournamentService = tournamentService;
+    }
+
+    @PostMapping("")
+    public ResponseEntity<Void> createTournament(@RequestBody TournamentDto tournamentDto)
+            throws BadRequestException, DataNotFoundException {
+        Long id = tournamentService.createTournament(tournamentDto);
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/jokenpo/tournament/{id}").buildAndExpand(id).toUri()).build();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TournamentViewDto> findTournament(@PathVariable Long id) throws DataNotFoundException {
+        return new ResponseEntity<>(tournamentService.findTournament(id), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<List<TournamentStandingDto>> findStandings(@PathVariable Long id,
+                                                                     @RequestParam(defaultValue = "0") int page,
+                                                                     @RequestParam(defaultValue = "20") int size)
+            throws BadRequestException, DataNotFoundException {
+        return new ResponseEntity<>(tournamentService.findStandings(id, page, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/round/{round}")
+    public ResponseEntity<List<TournamentMatchDto>> findRound(@PathVariable Long id, @PathVariable int round)
+            throws DataNotFoundException {
+        return new ResponseEntity<>(tournamentService.findRound(id, round), HttpStatus.OK);
+    }
+
+}
@@ -0,0 +1,76 @@
+package tech.ada.games.jokenpo.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import tech.ada.games.jokenpo.dto.TournamentDto;
+import tech.ada.games.jokenpo.dto.TournamentMatchDto;
+import tech.ada.games.jokenpo.dto.TournamentStandingDto;
+import tech.ada.games.jokenpo.dto.TournamentViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+
+import java.util.List;
+
+public interface TournamentControllerDocs {
+
+    @Operation(summary = "Criação de um torneio eliminatório, todos contra todos ou suíço", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Torneio criado e primeira rodada iniciada. Os jogos de " +
+                    "cada rodada são avisados pelo evento tournament em /api/v1/jokenpo/game/events", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Torneio sem nome, formato, jogadores ou rodadas válidos",
+                content = @Content),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Jogador não encontrado", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<Void> createTournament(@RequestBody TournamentDto tournamentDto)
+            throws BadRequestException, DataNotFoundException;
+
+    @Operation(summary = "Situação de um torneio", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rodada atual, jogos pendentes e vencedor",
+                content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TournamentViewDto.class))}),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Torneio não encontrado", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<TournamentViewDto> findTournament(@PathVariable Long id) throws DataNotFoundException;
+
+    @Operation(summary = "Retorna uma página da classificação do torneio", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jogadores ordenados por pontos, soma dos pontos dos " +
+                    "adversários e cabeça de chave",
+                content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = List.class))}),
+            @ApiResponse(responseCode = "400", description = "Página ou tamanho de página inválidos", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Torneio não encontrado", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<List<TournamentStandingDto>> findStandings(@PathVariable Long id,
+                                                              @RequestParam(defaultValue = "0") int page,
+                                                              @RequestParam(defaultValue = "20") int size)
+            throws BadRequestException, DataNotFoundException;
+
+    @Operation(summary = "Partidas de uma rodada do torneio", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Partidas da rodada com o jogo e o vencedor de cada uma",
+                content = { @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = List.class))}),
+            @ApiResponse(responseCode = "401", description = "Jogador não logado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Torneio ou rodada não encontrados", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor", content = @Content)
+    })
+    ResponseEntity<List<TournamentMatchDto>> findRound(@PathVariable Long id, @PathVariable int round)
+            throws DataNotFoundException;
+
+}
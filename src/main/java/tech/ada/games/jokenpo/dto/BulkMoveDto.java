@@ -0,0 +1,18 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkMoveDto {
+
+    private List<GameMoveDto> moves;
+
+}
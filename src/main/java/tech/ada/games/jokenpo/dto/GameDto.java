@@ -16,4 +16,18 @@ public class GameDto {
 
     private List<Long> players;
 
+    private String ruleSet;
+
+    // número ímpar de rodadas da partida; vence quem ganhar a maioria delas
+    private Integer bestOf;
+
+    public GameDto(List<Long> players) {
+        this.players = players;
+    }
+
+    public GameDto(List<Long> players, String ruleSet) {
+        this.players = players;
+        this.ruleSet = ruleSet;
+    }
+
 }
@@ -0,0 +1,18 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameEventDto {
+
+    private Long gameId;
+    private Integer remainingMoves;
+    private ResultDto result;
+
+}
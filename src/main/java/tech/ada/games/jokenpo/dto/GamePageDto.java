@@ -0,0 +1,19 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GamePageDto {
+
+    private List<GameViewDto> games;
+    private Long nextCursor;
+
+}
@@ -0,0 +1,35 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameViewDto {
+
+    private Long id;
+    private PlayerViewDto creator;
+    private Boolean finished;
+    private LocalDateTime createdAt;
+    private Integer bestOf;
+    private Integer round;
+    private List<PlayerViewDto> winners = new ArrayList<>();
+    private List<PlayerMoveViewDto> players = new ArrayList<>();
+
+    public GameViewDto(Long id, Long creatorId, String creatorUsername, String creatorName, Boolean finished,
+                       LocalDateTime createdAt, Integer bestOf, Integer round) {
+        this.id = id;
+        this.creator = creatorId == null ? null : new PlayerViewDto(creatorId, creatorUsername, creatorName);
+        this.finished = finished;
+        this.createdAt = createdAt;
+        this.bestOf = bestOf;
+        this.round = round;
+    }
+
+}
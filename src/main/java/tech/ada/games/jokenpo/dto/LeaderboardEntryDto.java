@@ -0,0 +1,20 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LeaderboardEntryDto {
+
+    private long rank;
+    private PlayerViewDto player;
+    private long wins;
+    private long losses;
+    private long draws;
+
+}
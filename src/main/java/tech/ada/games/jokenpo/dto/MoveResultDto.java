@@ -0,0 +1,20 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MoveResultDto {
+
+    private Long gameId;
+    private Long moveId;
+    private int status;
+    private ResultDto result;
+    private String error;
+
+}
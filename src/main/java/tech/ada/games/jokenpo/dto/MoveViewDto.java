@@ -0,0 +1,16 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MoveViewDto {
+
+    private Long id;
+    private String move;
+    private Integer code;
+
+}
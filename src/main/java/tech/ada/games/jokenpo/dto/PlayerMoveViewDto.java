@@ -0,0 +1,29 @@
+package tech.ada.games.jokenpo.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlayerMoveViewDto {
+
+    @JsonIgnore
+    private Long gameId;
+    private Long id;
+    private PlayerViewDto player;
+    private MoveViewDto move;
+    private Integer score;
+
+    public PlayerMoveViewDto(Long gameId, Long id, Long playerId, String username, String name,
+                             Long moveId, String move, Integer code, Integer score) {
+        this.gameId = gameId;
+        this.id = id;
+        this.player = new PlayerViewDto(playerId, username, name);
+        this.move = moveId == null ? null : new MoveViewDto(moveId, move, code);
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,16 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlayerViewDto {
+
+    private Long id;
+    private String username;
+    private String name;
+
+}
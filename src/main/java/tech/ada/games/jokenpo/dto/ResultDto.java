@@ -1,5 +1,7 @@
 package tech.ada.games.jokenpo.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,5 +18,10 @@ public class ResultDto {
     public List<Long> winners;
     public Long moveId;
     public String message;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Integer round;
+
+    @JsonIgnore
+    private boolean pending;
 
 }
@@ -0,0 +1,18 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RuleSetDto {
+
+    private String name;
+    private List<String> moves;
+    private boolean defaultRuleSet;
+
+}
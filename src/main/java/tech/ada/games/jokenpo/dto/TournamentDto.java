@@ -0,0 +1,25 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import tech.ada.games.jokenpo.model.TournamentFormat;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentDto {
+
+    private String name;
+    private TournamentFormat format;
+    // a ordem da lista define os cabeças de chave
+    private List<Long> players;
+    private String ruleSet;
+    // apenas no sistema suíço; quando ausente, o mínimo para apontar um único líder
+    private Integer rounds;
+
+}
@@ -0,0 +1,21 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentMatchDto {
+
+    private int slot;
+    private Long gameId;
+    private Long playerOneId;
+    private Long playerTwoId;
+    private Long winnerId;
+    private Boolean finished;
+
+}
@@ -0,0 +1,23 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentStandingDto {
+
+    private long rank;
+    private PlayerViewDto player;
+    private int points;
+    private int wins;
+    private int draws;
+    private int losses;
+    private long buchholz;
+    private boolean eliminated;
+
+}
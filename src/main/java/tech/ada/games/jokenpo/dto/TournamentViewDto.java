@@ -0,0 +1,30 @@
+package tech.ada.games.jokenpo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import tech.ada.games.jokenpo.model.TournamentFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentViewDto {
+
+    private Long id;
+    private String name;
+    private TournamentFormat format;
+    private String ruleSet;
+    private Long creatorId;
+    private LocalDateTime createdAt;
+    private int round;
+    private int rounds;
+    private long players;
+    private long pendingGames;
+    private Boolean finished;
+    private Long winnerId;
+
+}
@@ -0,0 +1,60 @@
+package tech.ada.games.jokenpo.initialization;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import tech.ada.games.jokenpo.model.PlayerStats;
+import tech.ada.games.jokenpo.repository.GameRepository;
+import tech.ada.games.jokenpo.repository.PlayerMoveRepository;
+import tech.ada.games.jokenpo.repository.PlayerStatsRepository;
+import tech.ada.games.jokenpo.service.LeaderboardService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class LeaderboardLoader implements CommandLineRunner {
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final GameRepository gameRepository;
+    private final PlayerMoveRepository playerMoveRepository;
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardLoader(PlayerStatsRepository playerStatsRepository, GameRepository gameRepository,
+                             PlayerMoveRepository playerMoveRepository, LeaderboardService leaderboardService) {
+        this.playerStatsRepository = playerStatsRepository;
+        this.gameRepository = gameRepository;
+        this.playerMoveRepository = playerMoveRepository;
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Override
+    public void run(String... args) {
+        List<Long> missing = playerStatsRepository.findPlayerIdsWithoutStats();
+        if (!missing.isEmpty()) {
+            Map<Long, Long> wins = toMap(gameRepository.countWinsByPlayer());
+            Map<Long, Long> played = toMap(playerMoveRepository.countFinishedGamesByPlayer());
+            Map<Long, Long> draws = toMap(playerMoveRepository.countDrawnGamesByPlayer());
+            List<PlayerStats> stats = new ArrayList<>(missing.size());
+            for (Long playerId : missing) {
+                long w = wins.getOrDefault(playerId, 0L);
+                long d = draws.getOrDefault(playerId, 0L);
+                stats.add(new PlayerStats(playerId, w, played.getOrDefault(playerId, 0L) - w - d, d));
+            }
+            playerStatsRepository.saveAll(stats);
+            log.info("Estatísticas de {} jogadores calculadas a partir do histórico", stats.size());
+        }
+        leaderboardService.load();
+    }
+
+    private static Map<Long, Long> toMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
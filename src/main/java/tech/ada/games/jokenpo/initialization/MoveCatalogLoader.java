@@ -0,0 +1,20 @@
+package tech.ada.games.jokenpo.initialization;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import tech.ada.games.jokenpo.service.MoveCatalog;
+
+@Component
+public class MoveCatalogLoader implements CommandLineRunner {
+
+    private final MoveCatalog moveCatalog;
+
+    public MoveCatalogLoader(MoveCatalog moveCatalog) {
+        this.moveCatalog = moveCatalog;
+    }
+
+    @Override
+    public void run(String... args) {
+        moveCatalog.load();
+    }
+}
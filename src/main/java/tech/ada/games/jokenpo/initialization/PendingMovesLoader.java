@@ -0,0 +1,31 @@
+package tech.ada.games.jokenpo.initialization;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import tech.ada.games.jokenpo.repository.PlayerMoveRepository;
+import tech.ada.games.jokenpo.service.PendingMovesTracker;
+
+import java.util.List;
+
+@Component
+@Slf4j
+public class PendingMovesLoader implements CommandLineRunner {
+
+    private final PlayerMoveRepository playerMoveRepository;
+    private final PendingMovesTracker pendingMovesTracker;
+
+    public PendingMovesLoader(PlayerMoveRepository playerMoveRepository, PendingMovesTracker pendingMovesTracker) {
+        this.playerMoveRepository = playerMoveRepository;
+        this.pendingMovesTracker = pendingMovesTracker;
+    }
+
+    @Override
+    public void run(String... args) {
+        List<Object[]> rows = playerMoveRepository.countPendingMovesByUnfinishedGame();
+        for (Object[] row : rows) {
+            pendingMovesTracker.track((Long) row[0], ((Long) row[1]).intValue());
+        }
+        log.info("{} jogos em andamento carregados", rows.size());
+    }
+}
@@ -0,0 +1,40 @@
+package tech.ada.games.jokenpo.initialization;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@DependsOn("entityManagerFactory")
+public class SequenceSynchronizer {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceSynchronizer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // As tabelas game e player_move usavam IDENTITY; a sequência criada pelo Hibernate precisa começar
+    // depois dos ids já gravados, considerando que o otimizador pooled usa o intervalo (valor - 50, valor]
+    @PostConstruct
+    void synchronize() {
+        synchronize("game_seq", "game");
+        synchronize("player_move_seq", "player_move");
+    }
+
+    private void synchronize(String sequence, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        Long nextValue = jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES " +
+                "WHERE SEQUENCE_NAME = ?", Long.class, sequence.toUpperCase());
+        if (maxId == null || maxId == 0 || nextValue == null || nextValue >= maxId + ALLOCATION_SIZE)
+            return;
+        long restart = maxId + ALLOCATION_SIZE;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restart);
+        log.info("Sequência {} reiniciada em {}", sequence, restart);
+    }
+}
@@ -0,0 +1,241 @@
+package tech.ada.games.jokenpo.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal append-only dividido em segmentos mapeados em memória. Cada registro é gravado como
+ * [tamanho][crc32c][evento]; um tamanho zero marca o fim do segmento. Posições codificam o segmento nos 32 bits
+ * altos e o deslocamento nos 32 bits baixos.
+ */
+@Component
+@ConditionalOnProperty(value = "app.journal.enabled", havingValue = "true")
+@Slf4j
+public class GameJournal {
+
+    private static final int MAGIC = 0x4a4b504a;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    @Value("${app.journal.directory:/data/journal}")
+    private Path directory;
+
+    @Value("${app.journal.segment-size-mb:64}")
+    private int segmentSizeMb;
+
+    @Value("${app.journal.sync:false}")
+    private boolean sync;
+
+    private final NavigableMap<Integer, MappedByteBuffer> segments = new ConcurrentSkipListMap<>();
+
+    private int segmentSize;
+
+    @Getter
+    private long epoch;
+
+    private int segment;
+
+    private MappedByteBuffer buffer;
+
+    private int offset;
+
+    private volatile long end;
+
+    @PostConstruct
+    void open() throws IOException {
+        segmentSize = segmentSizeMb * 1024 * 1024;
+        Files.createDirectories(directory);
+        List<Integer> existing;
+        try (Stream<Path> files = Files.list(directory)) {
+            existing = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.matches("\\d{10}\\.journal"))
+                    .map(name -> Integer.parseInt(name.substring(0, 10)))
+                    .sorted()
+                    .toList();
+        }
+        if (existing.isEmpty()) {
+            epoch = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            roll(0);
+            log.info("Journal criado em {}", directory);
+            return;
+        }
+        for (Integer index : existing) {
+            MappedByteBuffer mapped = map(index);
+            if (mapped.getInt(0) != MAGIC)
+                throw new IllegalStateException("Segmento " + index + " do journal inválido");
+            if (index.equals(existing.get(0)))
+                epoch = mapped.getLong(8);
+            else if (mapped.getLong(8) != epoch)
+                throw new IllegalStateException("Segmento " + index + " pertence a outro journal");
+            segments.put(index, mapped);
+        }
+        segment = existing.get(existing.size() - 1);
+        buffer = segments.get(segment);
+        offset = recover(buffer);
+        end = position(segment, offset);
+        log.info("Journal aberto em {} com {} segmentos", directory, segments.size());
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (buffer != null)
+            buffer.force();
+    }
+
+    public synchronized long append(List<JournalEvent> events) {
+        for (JournalEvent event : events) {
+            int size = RECORD_HEADER_SIZE + event.size();
+            if (HEADER_SIZE + size > segmentSize)
+                throw new IllegalArgumentException("Evento maior que o segmento do journal");
+            if (offset + size > segmentSize)
+                roll(segment + 1);
+            ByteBuffer record = buffer.slice(offset + RECORD_HEADER_SIZE, size - RECORD_HEADER_SIZE);
+            event.writeTo(record);
+            CRC32C crc = new CRC32C();
+            crc.update(record.flip());
+            buffer.putInt(offset + Integer.BYTES, (int) crc.getValue());
+            buffer.putInt(offset, size - RECORD_HEADER_SIZE);
+            if (sync)
+                buffer.force(offset, size);
+            offset += size;
+        }
+        end = position(segment, offset);
+        notifyAll();
+        return end;
+    }
+
+    public long start() {
+        return position(segments.firstKey(), HEADER_SIZE);
+    }
+
+    public long end() {
+        return end;
+    }
+
+    public synchronized void awaitAppend(long position, long timeoutMs) throws InterruptedException {
+        if (end == position)
+            wait(timeoutMs);
+    }
+
+    public Batch read(long position, int max) {
+        long limit = end;
+        int index = Math.max((int) (position >>> 32), segments.firstKey());
+        int at = index == (int) (position >>> 32) ? Math.max((int) position, HEADER_SIZE) : HEADER_SIZE;
+        List<JournalEvent> events = new ArrayList<>(Math.min(max, 1024));
+        while (events.size() < max && position(index, at) < limit) {
+            MappedByteBuffer mapped = segments.get(index);
+            int length = at + RECORD_HEADER_SIZE <= segmentSize ? mapped.getInt(at) : 0;
+            if (length <= 0) {
+                index++;
+                at = HEADER_SIZE;
+                continue;
+            }
+            events.add(JournalEvent.readFrom(mapped.slice(at + RECORD_HEADER_SIZE, length)));
+            at += RECORD_HEADER_SIZE + length;
+        }
+        return new Batch(events, position(index, at));
+    }
+
+    /**
+     * Remove os segmentos anteriores ao segmento da posição informada, que já foram projetados.
+     */
+    public void release(long position) {
+        int current = (int) (position >>> 32);
+        for (Integer index : new ArrayList<>(segments.headMap(current).keySet())) {
+            segments.remove(index);
+            try {
+                Files.deleteIfExists(file(index));
+                log.info("Segmento {} do journal removido", index);
+            } catch (IOException ex) {
+                log.warn("Falha ao remover o segmento {} do journal", index, ex);
+            }
+        }
+    }
+
+    private int recover(MappedByteBuffer mapped) {
+        int at = HEADER_SIZE;
+        while (at + RECORD_HEADER_SIZE <= segmentSize) {
+            int length = mapped.getInt(at);
+            if (length == 0)
+                return at;
+            boolean valid = length > 0 && at + RECORD_HEADER_SIZE + length <= segmentSize;
+            if (valid) {
+                CRC32C crc = new CRC32C();
+                crc.update(mapped.slice(at + RECORD_HEADER_SIZE, length));
+                valid = (int) crc.getValue() == mapped.getInt(at + Integer.BYTES);
+            }
+            if (!valid) {
+                log.warn("Registro incompleto no deslocamento {} do segmento {}, descartando o restante", at, segment);
+                for (int i = at; i < segmentSize; i++) {
+                    mapped.put(i, (byte) 0);
+                }
+                mapped.force();
+                return at;
+            }
+            at += RECORD_HEADER_SIZE + length;
+        }
+        return at;
+    }
+
+    private void roll(int index) {
+        if (buffer != null)
+            buffer.force();
+        MappedByteBuffer mapped = map(index);
+        mapped.putInt(0, MAGIC);
+        mapped.putLong(8, epoch);
+        mapped.force();
+        segments.put(index, mapped);
+        segment = index;
+        buffer = mapped;
+        offset = HEADER_SIZE;
+    }
+
+    private MappedByteBuffer map(int index) {
+        try (FileChannel channel = FileChannel.open(file(index), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao mapear o segmento " + index + " do journal", ex);
+        }
+    }
+
+    private Path file(int index) {
+        return directory.resolve(String.format("%010d.journal", index));
+    }
+
+    private static long position(int segment, int offset) {
+        return ((long) segment << 32) | offset;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Batch {
+
+        private final List<JournalEvent> events;
+        private final long next;
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package tech.ada.games.jokenpo.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+@Getter
+@AllArgsConstructor
+public class JournalEvent {
+
+    public enum Type {
+        GAME_CREATED, MOVE_PLAYED, GAME_FINISHED
+    }
+
+    private static final long[] NONE = new long[0];
+
+    private final Type type;
+    private final long gameId;
+    // GAME_CREATED: criador; MOVE_PLAYED: jogador
+    private final long playerId;
+    // GAME_CREATED: criação em epoch millis; MOVE_PLAYED: jogada
+    private final long value;
+    // GAME_CREATED e GAME_FINISHED: jogadores do jogo
+    private final long[] playerIds;
+    // GAME_FINISHED: vencedores, vazio em caso de empate
+    private final long[] winnerIds;
+    // GAME_CREATED: conjunto de regras, gravado ao final do registro e ausente nos registros antigos
+    private final String ruleSet;
+
+    public static JournalEvent gameCreated(long gameId, long creatorId, long createdAt, long[] playerIds,
+                                           String ruleSet) {
+        return new JournalEvent(Type.GAME_CREATED, gameId, creatorId, createdAt, playerIds, NONE, ruleSet);
+    }
+
+    public static JournalEvent movePlayed(long gameId, long playerId, long moveId) {
+        return new JournalEvent(Type.MOVE_PLAYED, gameId, playerId, moveId, NONE, NONE, null);
+    }
+
+    public static JournalEvent gameFinished(long gameId, long[] playerIds, long[] winnerIds) {
+        return new JournalEvent(Type.GAME_FINISHED, gameId, 0, 0, playerIds, winnerIds, null);
+    }
+
+    int size() {
+        return switch (type) {
+            case GAME_CREATED -> 1 + 3 * Long.BYTES + Integer.BYTES + playerIds.length * Long.BYTES
+                    + (ruleSet == null ? 0 : Short.BYTES + ruleSet.getBytes(StandardCharsets.UTF_8).length);
+            case MOVE_PLAYED -> 1 + 3 * Long.BYTES;
+            case GAME_FINISHED -> 1 + Long.BYTES + 2 * Integer.BYTES + (playerIds.length + winnerIds.length) * Long.BYTES;
+        };
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        buffer.put((byte) type.ordinal());
+        buffer.putLong(gameId);
+        switch (type) {
+            case GAME_CREATED -> {
+                buffer.putLong(playerId);
+                buffer.putLong(value);
+                putIds(buffer, playerIds);
+                if (ruleSet != null) {
+                    byte[] name = ruleSet.getBytes(StandardCharsets.UTF_8);
+                    buffer.putShort((short) name.length);
+                    buffer.put(name);
+                }
+            }
+            case MOVE_PLAYED -> {
+                buffer.putLong(playerId);
+                buffer.putLong(value);
+            }
+            case GAME_FINISHED -> {
+                putIds(buffer, playerIds);
+                putIds(buffer, winnerIds);
+            }
+        }
+    }
+
+    static JournalEvent readFrom(ByteBuffer buffer) {
+        Type type = Type.values()[buffer.get()];
+        long gameId = buffer.getLong();
+        return switch (type) {
+            case GAME_CREATED -> gameCreated(gameId, buffer.getLong(), buffer.getLong(), getIds(buffer),
+                    getRuleSet(buffer));
+            case MOVE_PLAYED -> movePlayed(gameId, buffer.getLong(), buffer.getLong());
+            case GAME_FINISHED -> gameFinished(gameId, getIds(buffer), getIds(buffer));
+        };
+    }
+
+    private static void putIds(ByteBuffer buffer, long[] ids) {
+        buffer.putInt(ids.length);
+        for (long id : ids) {
+            buffer.putLong(id);
+        }
+    }
+
+    private static String getRuleSet(ByteBuffer buffer) {
+        if (!buffer.hasRemaining())
+            return null;
+        byte[] name = new byte[buffer.getShort()];
+        buffer.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static long[] getIds(ByteBuffer buffer) {
+        long[] ids = new long[buffer.getInt()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = buffer.getLong();
+        }
+        return ids;
+    }
+
+}
@@ -0,0 +1,200 @@
+package tech.ada.games.jokenpo.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.ada.games.jokenpo.service.LeaderboardService;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * Alimenta as tabelas JPA a partir do journal, em lotes, gravando a posição projetada na mesma transação.
+ */
+@Component
+@ConditionalOnProperty(value = "app.journal.enabled", havingValue = "true")
+@DependsOn({"entityManagerFactory", "sequenceSynchronizer"})
+@Slf4j
+public class JournalProjector {
+
+    private final GameJournal gameJournal;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaderboardService leaderboardService;
+    private final SequenceBlock playerMoveIds;
+
+    @Value("${app.journal.batch-size:500}")
+    private int batchSize;
+
+    private volatile LongConsumer finishedListener = gameId -> {
+    };
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    private volatile long position;
+
+    public JournalProjector(GameJournal gameJournal, JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate, LeaderboardService leaderboardService) {
+        this.gameJournal = gameJournal;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.leaderboardService = leaderboardService;
+        this.playerMoveIds = new SequenceBlock(jdbcTemplate, "player_move_seq");
+    }
+
+    @PostConstruct
+    void init() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS journal_checkpoint (id INT PRIMARY KEY, " +
+                "epoch BIGINT NOT NULL, position BIGINT NOT NULL)");
+        position = gameJournal.start();
+        jdbcTemplate.query("SELECT epoch, position FROM journal_checkpoint WHERE id = 1", rs -> {
+            if (rs.getLong("epoch") == gameJournal.getEpoch())
+                position = Math.max(rs.getLong("position"), position);
+            else
+                log.warn("Checkpoint pertence a outro journal, projetando desde o início");
+        });
+    }
+
+    public void onGameFinished(LongConsumer listener) {
+        this.finishedListener = listener;
+    }
+
+    public synchronized void catchUp() {
+        int projected = 0;
+        int batch;
+        while ((batch = projectBatch()) > 0) {
+            projected += batch;
+        }
+        if (projected > 0)
+            log.info("{} eventos do journal projetados", projected);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "journal-projector");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread != null)
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        catchUp();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                // espera a partir da posição já projetada: um evento gravado depois da leitura encerra a espera na hora
+                if (project() == 0)
+                    gameJournal.awaitAppend(position, 1000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Falha ao projetar o journal, nova tentativa em 1s", ex);
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private synchronized int project() {
+        return projectBatch();
+    }
+
+    private int projectBatch() {
+        GameJournal.Batch batch = gameJournal.read(position, batchSize);
+        List<Long> finished = new ArrayList<>();
+        if (!batch.getEvents().isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                apply(batch.getEvents(), finished);
+                jdbcTemplate.update("MERGE INTO journal_checkpoint (id, epoch, position) KEY (id) VALUES (1, ?, ?)",
+                        gameJournal.getEpoch(), batch.getNext());
+            });
+        }
+        position = batch.getNext();
+        gameJournal.release(position);
+        finished.forEach(gameId -> finishedListener.accept(gameId));
+        return batch.getEvents().size();
+    }
+
+    private void apply(List<JournalEvent> events, List<Long> finished) {
+        List<Object[]> games = new ArrayList<>();
+        List<Object[]> playerMoves = new ArrayList<>();
+        List<Object[]> moves = new ArrayList<>();
+        List<Object[]> results = new ArrayList<>();
+        List<Object[]> winners = new ArrayList<>();
+        for (JournalEvent event : events) {
+            switch (event.getType()) {
+                case GAME_CREATED -> {
+                    games.add(new Object[]{event.getGameId(), event.getPlayerId(),
+                            Timestamp.valueOf(toDateTime(event.getValue())), event.getRuleSet()});
+                    for (long playerId : event.getPlayerIds()) {
+                        playerMoves.add(new Object[]{playerMoveIds.next(), event.getGameId(), playerId});
+                    }
+                }
+                case MOVE_PLAYED -> moves.add(new Object[]{event.getValue(), event.getGameId(), event.getPlayerId()});
+                case GAME_FINISHED -> {
+                    results.add(new Object[]{event.getGameId()});
+                    for (long winnerId : event.getWinnerIds()) {
+                        winners.add(new Object[]{event.getGameId(), winnerId});
+                    }
+                    recordResult(event);
+                    finished.add(event.getGameId());
+                }
+            }
+        }
+        batchUpdate("INSERT INTO game (id, creator_id, created_at, finished, rule_set) VALUES (?, ?, ?, FALSE, ?)",
+                games);
+        batchUpdate("INSERT INTO player_move (id, game_id, player_id) VALUES (?, ?, ?)", playerMoves);
+        batchUpdate("UPDATE player_move SET move_id = ? WHERE game_id = ? AND player_id = ?", moves);
+        batchUpdate("UPDATE game SET finished = TRUE WHERE id = ?", results);
+        batchUpdate("INSERT INTO games_winners (game_id, player_id) VALUES (?, ?)", winners);
+    }
+
+    private void recordResult(JournalEvent event) {
+        List<Long> players = Arrays.stream(event.getPlayerIds()).boxed().toList();
+        if (event.getWinnerIds().length == 0) {
+            leaderboardService.recordResult(List.of(), List.of(), players);
+            return;
+        }
+        List<Long> winners = Arrays.stream(event.getWinnerIds()).boxed().toList();
+        leaderboardService.recordResult(winners, players.stream().filter(id -> !winners.contains(id)).toList(),
+                List.of());
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty())
+            jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+}
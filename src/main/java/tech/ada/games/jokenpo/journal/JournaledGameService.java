@@ -0,0 +1,274 @@
+package tech.ada.games.jokenpo.journal;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.dto.GameEventDto;
+import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.dto.ResultDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataConflictException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.repository.GameRepository;
+import tech.ada.games.jokenpo.repository.PlayerRepository;
+import tech.ada.games.jokenpo.service.GameEventPublisher;
+import tech.ada.games.jokenpo.service.GameService;
+import tech.ada.games.jokenpo.service.MoveCatalog;
+import tech.ada.games.jokenpo.service.RuleSet;
+import tech.ada.games.jokenpo.service.RuleSetRegistry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caminho de jogo ao vivo sem JPA: o estado dos jogos em andamento fica em memória e cada alteração é gravada no
+ * journal antes de ser aplicada. As tabelas são alimentadas depois pelo {@link JournalProjector}.
+ */
+@Service
+@ConditionalOnProperty(value = "app.journal.enabled", havingValue = "true")
+@Slf4j
+public class JournaledGameService {
+
+    private final GameJournal gameJournal;
+    private final JournalProjector journalProjector;
+    private final PlayerRepository playerRepository;
+    private final GameRepository gameRepository;
+    private final MoveCatalog moveCatalog;
+    private final RuleSetRegistry ruleSetRegistry;
+    private final GameEventPublisher gameEventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceBlock gameIds;
+
+    private final Map<Long, LiveGame> games = new ConcurrentHashMap<>();
+
+    public JournaledGameService(GameJournal gameJournal, JournalProjector journalProjector,
+                                PlayerRepository playerRepository, GameRepository gameRepository,
+                                MoveCatalog moveCatalog, RuleSetRegistry ruleSetRegistry,
+                                GameEventPublisher gameEventPublisher, JdbcTemplate jdbcTemplate) {
+        this.gameJournal = gameJournal;
+        this.journalProjector = journalProjector;
+        this.playerRepository = playerRepository;
+        this.gameRepository = gameRepository;
+        this.moveCatalog = moveCatalog;
+        this.ruleSetRegistry = ruleSetRegistry;
+        this.gameEventPublisher = gameEventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.gameIds = new SequenceBlock(jdbcTemplate, "game_seq");
+    }
+
+    @PostConstruct
+    void load() {
+        journalProjector.catchUp();
+        Map<Long, List<Object[]>> rows = new LinkedHashMap<>();
+        Map<Long, String> ruleSets = new HashMap<>();
+        jdbcTemplate.query("SELECT pm.game_id, pm.player_id, p.name, pm.move_id, g.rule_set FROM player_move pm " +
+                "JOIN game g ON g.id = pm.game_id JOIN player p ON p.id = pm.player_id " +
+                "WHERE g.finished = FALSE ORDER BY pm.game_id, pm.id", rs -> {
+            long moveId = rs.getLong("move_id");
+            rows.computeIfAbsent(rs.getLong("game_id"), id -> new ArrayList<>())
+                    .add(new Object[]{rs.getLong("player_id"), rs.getString("name"), moveId});
+            ruleSets.put(rs.getLong("game_id"), rs.getString("rule_set"));
+        });
+        List<LiveGame> complete = new ArrayList<>();
+        rows.forEach((gameId, players) -> {
+            LiveGame game = new LiveGame(gameId, players.size(), ruleSetRegistry.forGame(ruleSets.get(gameId)));
+            for (int i = 0; i < players.size(); i++) {
+                game.playerIds[i] = (Long) players.get(i)[0];
+                game.names[i] = (String) players.get(i)[1];
+                game.moveIds[i] = (Long) players.get(i)[2];
+                if (game.moveIds[i] == 0)
+                    game.remaining++;
+            }
+            games.put(gameId, game);
+            if (game.remaining == 0)
+                complete.add(game);
+        });
+        for (LiveGame game : complete) {
+            synchronized (game) {
+                Resolution resolution = resolve(game, game.moveIds);
+                gameJournal.append(List.of(resolution.event));
+                game.finished = true;
+            }
+        }
+        journalProjector.onGameFinished(games::remove);
+        log.info("{} jogos em andamento carregados na memória", games.size());
+    }
+
+    public List<Long> createGames(List<Long> creatorIds, List<GameDto> gameDtos) throws BadRequestException,
+            DataNotFoundException {
+        Set<Long> playerIds = new HashSet<>();
+        List<RuleSet> ruleSets = new ArrayList<>(gameDtos.size());
+        for (GameDto gameDto : gameDtos) {
+            if (gameDto.getPlayers() == null || gameDto.getPlayers().size() < 2)
+                throw new BadRequestException("O jogo possui menos que dois jogadores!");
+            // o journal grava um único resultado por jogo; partidas com várias rodadas ficam no banco
+            if (gameDto.getBestOf() != null && gameDto.getBestOf() > 1)
+                throw new BadRequestException("Partidas com mais de uma rodada não estão disponíveis no journal!");
+            playerIds.addAll(gameDto.getPlayers());
+            ruleSets.add(ruleSetRegistry.forName(gameDto.getRuleSet()));
+        }
+        // o token de um jogador removido continua válido até expirar, então o criador também é conferido
+        playerIds.addAll(creatorIds);
+        Map<Long, String> names = new HashMap<>();
+        for (PlayerViewDto player : playerRepository.findViewsByIdIn(playerIds)) {
+            names.put(player.getId(), player.getName());
+        }
+        if (names.size() != playerIds.size())
+            throw new DataNotFoundException("O jogador não está cadastrado!");
+
+        long now = System.currentTimeMillis();
+        List<LiveGame> created = new ArrayList<>(gameDtos.size());
+        List<JournalEvent> events = new ArrayList<>(gameDtos.size());
+        for (int i = 0; i < gameDtos.size(); i++) {
+            List<Long> players = gameDtos.get(i).getPlayers();
+            LiveGame game = new LiveGame(gameIds.next(), players.size(), ruleSets.get(i));
+            for (int p = 0; p < players.size(); p++) {
+                game.playerIds[p] = players.get(p);
+                game.names[p] = names.get(players.get(p));
+            }
+            game.remaining = players.size();
+            created.add(game);
+            events.add(JournalEvent.gameCreated(game.id, creatorIds.get(i), now, game.playerIds,
+                    game.ruleSet.getName()));
+        }
+        gameJournal.append(events);
+        List<Long> ids = new ArrayList<>(created.size());
+        for (LiveGame game : created) {
+            games.put(game.id, game);
+            ids.add(game.id);
+        }
+        return ids;
+    }
+
+    public ResultDto insertPlayerMove(Long playerId, GameMoveDto gameMove) throws BadRequestException,
+            DataNotFoundException, DataConflictException {
+        LiveGame game = gameMove.getGameId() == null ? null : games.get(gameMove.getGameId());
+        if (game == null) {
+            if (gameMove.getGameId() != null && gameRepository.existsById(gameMove.getGameId()))
+                throw new BadRequestException("O jogo já foi finalizado!");
+            throw new DataNotFoundException("Jogo não cadastrado!");
+        }
+        ResultDto result;
+        int remain;
+        synchronized (game) {
+            if (game.finished)
+                throw new BadRequestException("O jogo já foi finalizado!");
+            MoveCatalog.Entry move = moveCatalog.findById(gameMove.getMoveId()).orElseThrow(() ->
+                    new DataNotFoundException("Jogada não cadastrada"));
+            if (!game.ruleSet.contains(move.getCode()))
+                throw new BadRequestException("A jogada não faz parte das regras do jogo!");
+            int slot = game.slotOf(playerId);
+            if (slot < 0)
+                throw new DataNotFoundException("Jogador não está cadastrado no jogo!");
+            if (game.moveIds[slot] != 0)
+                throw new DataConflictException("Jogador já realizou a sua jogada!");
+
+            remain = game.remaining - 1;
+            JournalEvent played = JournalEvent.movePlayed(game.id, playerId, move.getId());
+            if (remain > 0) {
+                gameJournal.append(List.of(played));
+                String msg = "Jogada realizada! Faltam " + remain + " jogadores para finalizar o jogo!";
+                log.info(msg);
+                result = new ResultDto();
+                result.setMessage(msg);
+            } else {
+                long[] moveIds = game.moveIds.clone();
+                moveIds[slot] = move.getId();
+                Resolution resolution = resolve(game, moveIds);
+                gameJournal.append(List.of(played, resolution.event));
+                log.info("Todos os jogadores já realizaram suas jogadas! Resultado final gravado no journal!");
+                game.finished = true;
+                result = resolution.result;
+            }
+            game.moveIds[slot] = move.getId();
+            game.remaining = remain;
+        }
+        List<Long> players = game.players();
+        if (remain > 0)
+            gameEventPublisher.publish(GameEventPublisher.MOVE_EVENT, new GameEventDto(game.id, remain, result), players);
+        else
+            gameEventPublisher.publish(GameEventPublisher.RESULT_EVENT, new GameEventDto(game.id, 0, result), players);
+        return result;
+    }
+
+    public int openGames() {
+        return games.size();
+    }
+
+    private Resolution resolve(LiveGame game, long[] moveIds) {
+        int[] codes = new int[moveIds.length];
+        for (int i = 0; i < moveIds.length; i++) {
+            codes[i] = moveCatalog.codeOf(moveIds[i]);
+        }
+        int winningCode = game.ruleSet.winningCode(codes);
+        List<Long> winnerIds = new ArrayList<>();
+        List<String> winnerNames = new ArrayList<>();
+        Long winningMove = null;
+        for (int i = 0; i < codes.length; i++) {
+            if (winningCode != 0 && codes[i] == winningCode) {
+                winnerIds.add(game.playerIds[i]);
+                winnerNames.add(game.names[i]);
+                winningMove = moveIds[i];
+            }
+        }
+        long[] winners = winnerIds.stream().mapToLong(Long::longValue).toArray();
+        return new Resolution(JournalEvent.gameFinished(game.id, game.playerIds, winners),
+                GameService.resultOf(winnerIds, winnerNames, winningMove));
+    }
+
+    private static class LiveGame {
+
+        private final long id;
+        private final long[] playerIds;
+        private final String[] names;
+        private final long[] moveIds;
+        private final RuleSet ruleSet;
+        private int remaining;
+        private boolean finished;
+
+        LiveGame(long id, int players, RuleSet ruleSet) {
+            this.id = id;
+            this.ruleSet = ruleSet;
+            this.playerIds = new long[players];
+            this.names = new String[players];
+            this.moveIds = new long[players];
+        }
+
+        int slotOf(long playerId) {
+            for (int i = 0; i < playerIds.length; i++) {
+                if (playerIds[i] == playerId)
+                    return i;
+            }
+            return -1;
+        }
+
+        List<Long> players() {
+            List<Long> players = new ArrayList<>(playerIds.length);
+            for (long playerId : playerIds) {
+                players.add(playerId);
+            }
+            return players;
+        }
+
+    }
+
+    @AllArgsConstructor
+    private static class Resolution {
+
+        private final JournalEvent event;
+        private final ResultDto result;
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package tech.ada.games.jokenpo.journal;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Reserva ids em blocos da mesma sequência usada pelo Hibernate, respeitando o intervalo (valor - 50, valor]
+ * do otimizador pooled para que ids gerados pelo journal e pelo JPA nunca colidam.
+ */
+class SequenceBlock {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String sequence;
+
+    private long next;
+
+    private long last = -1;
+
+    SequenceBlock(JdbcTemplate jdbcTemplate, String sequence) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequence = sequence;
+    }
+
+    synchronized long next() {
+        if (next > last) {
+            Long value = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+            last = value;
+            next = Math.max(value - ALLOCATION_SIZE + 1, 1);
+        }
+        return next++;
+    }
+
+}
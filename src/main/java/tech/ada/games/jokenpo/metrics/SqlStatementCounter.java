@@ -0,0 +1,58 @@
+package tech.ada.games.jokenpo.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Conta os comandos SQL de uma unidade de trabalho (uma requisição ou um lote processado em segundo plano). O
+ * contador fica associado à thread que o iniciou e acompanha as tarefas entregues ao executor da aplicação, como o
+ * corpo das respostas em streaming.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, TaskDecorator {
+
+    private static final ThreadLocal<AtomicInteger> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = COUNT.get();
+        if (count != null)
+            count.incrementAndGet();
+        return sql;
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        AtomicInteger count = COUNT.get();
+        if (count == null)
+            return task;
+        return () -> {
+            AtomicInteger previous = COUNT.get();
+            COUNT.set(count);
+            try {
+                task.run();
+            } finally {
+                if (previous == null)
+                    COUNT.remove();
+                else
+                    COUNT.set(previous);
+            }
+        };
+    }
+
+    public AtomicInteger start() {
+        AtomicInteger count = new AtomicInteger();
+        COUNT.set(count);
+        return count;
+    }
+
+    public int stop() {
+        AtomicInteger count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count.get();
+    }
+
+}
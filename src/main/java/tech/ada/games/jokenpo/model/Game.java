@@ -18,20 +18,26 @@ import java.util.Set;
 public class Game {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_seq")
+    @SequenceGenerator(name = "game_seq", sequenceName = "game_seq", allocationSize = 50)
     private Long id;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Player creator;
     private Boolean finished;
     private LocalDateTime createdAt;
+    // nome do conjunto de regras; nulo nos jogos anteriores à escolha de regras, que usam as regras padrão
+    private String ruleSet;
+    // partidas melhor de N: rodada atual, com as jogadas reaproveitadas a cada rodada; nulos nos jogos de rodada única
+    private Integer bestOf;
+    private Integer round;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "games_winners",
             joinColumns = @JoinColumn(name = "game_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "player_id", referencedColumnName = "id"))
     private Set<Player> winners;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, mappedBy = "game")
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "game")
     private List<PlayerMove> players;
 
 }
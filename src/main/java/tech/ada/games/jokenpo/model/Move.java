@@ -10,6 +10,7 @@ import lombok.Setter;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_move_code", columnList = "code"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,8 +23,11 @@ public class Move {
 
     private String move;
 
+    @Column(name = "code")
+    private Integer code;
+
     @JsonIgnore
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, mappedBy = "move")
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "move")
     private List<PlayerMove> moves;
 
 }
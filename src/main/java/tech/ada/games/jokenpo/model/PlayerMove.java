@@ -15,18 +15,21 @@ import lombok.Setter;
 public class PlayerMove {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_move_seq")
+    @SequenceGenerator(name = "player_move_seq", sequenceName = "player_move_seq", allocationSize = 50)
     private Long id;
 
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Game game;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Player player;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Move move;
 
+    // rodadas vencidas pelo jogador em uma partida melhor de N
+    private Integer score;
 
 }
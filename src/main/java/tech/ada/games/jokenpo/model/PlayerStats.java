@@ -0,0 +1,27 @@
+package tech.ada.games.jokenpo.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "player_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerStats {
+
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(nullable = false)
+    private long wins;
+
+    @Column(nullable = false)
+    private long losses;
+
+    @Column(nullable = false)
+    private long draws;
+
+}
@@ -0,0 +1,33 @@
+package tech.ada.games.jokenpo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Tournament {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String name;
+    @Enumerated(EnumType.STRING)
+    private TournamentFormat format;
+    private String ruleSet;
+    // jogadores referenciados só pelo id, para que o torneio não impeça a remoção do jogador depois de finalizado
+    private Long creatorId;
+    private LocalDateTime createdAt;
+    private int round;
+    private int rounds;
+    private Boolean finished;
+    private Long winnerId;
+
+}
@@ -0,0 +1,9 @@
+package tech.ada.games.jokenpo.model;
+
+public enum TournamentFormat {
+
+    SINGLE_ELIMINATION,
+    ROUND_ROBIN,
+    SWISS
+
+}
@@ -0,0 +1,38 @@
+package tech.ada.games.jokenpo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "tournament_match", indexes = {
+        @Index(name = "idx_tournament_match_round", columnList = "tournament_id, round, slot"),
+        @Index(name = "idx_tournament_match_game", columnList = "gameId")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentMatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournament_match_seq")
+    @SequenceGenerator(name = "tournament_match_seq", sequenceName = "tournament_match_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Tournament tournament;
+
+    private int round;
+    private int slot;
+    // sem chave estrangeira: jogos finalizados podem ser movidos para o arquivo
+    private Long gameId;
+    private Long playerOneId;
+    // nulo quando o jogador da primeira posição folga na rodada
+    private Long playerTwoId;
+    // nulo em caso de empate ou enquanto o jogo não termina
+    private Long winnerId;
+    private Boolean finished;
+
+}
@@ -0,0 +1,39 @@
+package tech.ada.games.jokenpo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "tournament_player", indexes = {
+        @Index(name = "idx_tournament_player_tournament", columnList = "tournament_id, seed"),
+        @Index(name = "idx_tournament_player_standing", columnList = "tournament_id, standing")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentPlayer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournament_player_seq")
+    @SequenceGenerator(name = "tournament_player_seq", sequenceName = "tournament_player_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Tournament tournament;
+
+    private Long playerId;
+    private int seed;
+    private int points;
+    private int wins;
+    private int draws;
+    private int losses;
+    private boolean bye;
+    private boolean eliminated;
+    // desempate e posição na classificação, recalculados a cada avanço do torneio
+    private Long buchholz;
+    private Integer standing;
+
+}
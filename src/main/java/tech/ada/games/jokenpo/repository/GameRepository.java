@@ -1,8 +1,67 @@
 package tech.ada.games.jokenpo.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tech.ada.games.jokenpo.dto.GameViewDto;
 import tech.ada.games.jokenpo.model.Game;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface GameRepository extends JpaRepository<Game, Long> {
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Game g WHERE g.id = :id")
+    Optional<Game> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Game g WHERE g.id IN :ids ORDER BY g.id")
+    List<Game> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new tech.ada.games.jokenpo.dto.GameViewDto(g.id, c.id, c.username, c.name, g.finished, " +
+            "g.createdAt, g.bestOf, g.round) FROM Game g LEFT JOIN g.creator c WHERE g.id > :after " +
+            "AND (:finished IS NULL OR g.finished = :finished) AND (:creatorId IS NULL OR c.id = :creatorId) " +
+            "ORDER BY g.id")
+    List<GameViewDto> findViewPage(@Param("after") Long after, @Param("finished") Boolean finished,
+                                   @Param("creatorId") Long creatorId, Pageable pageable);
+
+    @Query("SELECT new tech.ada.games.jokenpo.dto.GameViewDto(g.id, c.id, c.username, c.name, g.finished, " +
+            "g.createdAt, g.bestOf, g.round) FROM Game g LEFT JOIN g.creator c WHERE g.id = :id")
+    Optional<GameViewDto> findViewById(@Param("id") Long id);
+
+    @Query("SELECT new tech.ada.games.jokenpo.dto.GameViewDto(g.id, c.id, c.username, c.name, g.finished, " +
+            "g.createdAt, g.bestOf, g.round) FROM Game g LEFT JOIN g.creator c WHERE g.id IN :ids ORDER BY g.id")
+    List<GameViewDto> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT g.id, w.id FROM Game g LEFT JOIN g.winners w WHERE g.id IN :ids AND g.finished = TRUE")
+    List<Object[]> findFinishedWinners(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT g.id FROM Game g WHERE g.finished = TRUE AND g.createdAt < :before ORDER BY g.id")
+    List<Long> findFinishedIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query(value = "DELETE FROM games_winners WHERE game_id IN :ids", nativeQuery = true)
+    void deleteWinnersByGameIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Game g WHERE g.id IN :ids")
+    void deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT g.id FROM Game g WHERE g.finished = FALSE AND NOT EXISTS " +
+            "(SELECT pm FROM PlayerMove pm WHERE pm.game = g AND pm.move IS NULL)")
+    List<Long> findUnresolvedGameIds();
+
+    @Query("SELECT w.id, COUNT(g) FROM Game g JOIN g.winners w GROUP BY w.id")
+    List<Object[]> countWinsByPlayer();
+
+    @Query("SELECT g.id, w.id, w.username, w.name FROM Game g JOIN g.winners w WHERE g.id IN :gameIds")
+    List<Object[]> findWinnerViewsByGameIds(@Param("gameIds") Collection<Long> gameIds);
+
 }
@@ -1,8 +1,12 @@
 package tech.ada.games.jokenpo.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tech.ada.games.jokenpo.dto.MoveViewDto;
 import tech.ada.games.jokenpo.model.Move;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MoveRepository extends JpaRepository<Move, Long> {
@@ -10,4 +14,10 @@ public interface MoveRepository extends JpaRepository<Move, Long> {
     Optional<Move> findByMove(String move);
     Boolean existsByMove(String move);
 
+    @Query("SELECT new tech.ada.games.jokenpo.dto.MoveViewDto(m.id, m.move, m.code) FROM Move m ORDER BY m.id")
+    List<MoveViewDto> findAllViews();
+
+    @Query("SELECT new tech.ada.games.jokenpo.dto.MoveViewDto(m.id, m.move, m.code) FROM Move m WHERE m.move = :move")
+    Optional<MoveViewDto> findViewByMove(@Param("move") String move);
+
 }
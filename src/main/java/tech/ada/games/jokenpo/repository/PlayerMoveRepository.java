@@ -1,10 +1,13 @@
 package tech.ada.games.jokenpo.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import tech.ada.games.jokenpo.dto.PlayerMoveViewDto;
 import tech.ada.games.jokenpo.model.PlayerMove;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,39 +16,49 @@ public interface PlayerMoveRepository extends JpaRepository<PlayerMove, Long> {
     @Query("SELECT COUNT(pm) FROM PlayerMove pm WHERE pm.player.id = :playerId AND pm.game.finished = FALSE")
     Long countByUnfinishedGameAndPlayer(@Param("playerId") Long playerId);
 
-    @Query("SELECT COUNT(pm) FROM PlayerMove pm WHERE pm.game.id = :gameId AND pm.game.finished = FALSE AND " +
-            "pm.move IS NOT NULL")
-    Long countMovesPlayedByUnfinishedGame(@Param("gameId") Long gameId);
+    @Query("SELECT COUNT(pm) FROM PlayerMove pm WHERE pm.game.id = :gameId AND pm.move IS NULL")
+    Long countPendingMovesByGameId(@Param("gameId") Long gameId);
 
-    @Query("SELECT COUNT(pm) FROM PlayerMove pm WHERE pm.game.id = :gameId AND pm.game.finished = FALSE")
-    Long countByUnfinishedGameId(@Param("gameId") Long gameId);
+    @Query("SELECT pm.game.id, COUNT(pm) FROM PlayerMove pm WHERE pm.game.id IN :gameIds AND pm.move IS NULL " +
+            "GROUP BY pm.game.id")
+    List<Object[]> countPendingMovesByGameIds(@Param("gameIds") Collection<Long> gameIds);
+
+    @Query("SELECT pm.game.id, COUNT(pm) FROM PlayerMove pm WHERE pm.game.finished = FALSE AND pm.move IS NULL " +
+            "GROUP BY pm.game.id")
+    List<Object[]> countPendingMovesByUnfinishedGame();
+
+    @Query("SELECT pm.player.id, COUNT(pm) FROM PlayerMove pm WHERE pm.game.finished = TRUE GROUP BY pm.player.id")
+    List<Object[]> countFinishedGamesByPlayer();
+
+    @Query("SELECT pm.player.id, COUNT(pm) FROM PlayerMove pm WHERE pm.game.finished = TRUE AND " +
+            "pm.game.winners IS EMPTY GROUP BY pm.player.id")
+    List<Object[]> countDrawnGamesByPlayer();
 
     @Query("SELECT pm FROM PlayerMove pm WHERE pm.player.id = :playerId AND pm.game.id = :gameId AND " +
             "pm.game.finished = FALSE")
     Optional<PlayerMove> findByUnfinishedGameIdAndPlayer(@Param("playerId") Long playerId, @Param("gameId") Long gameId);
 
-    @Query("SELECT EXISTS (SELECT pm FROM PlayerMove pm WHERE pm.game.id = :gameId AND pm.game.finished = FALSE " +
-            "AND (UPPER(pm.move.move) = 'SPOCK' OR UPPER(pm.move.move) = 'JOGADA SPOCK'))")
-    boolean existsSpockByUnfinishedGameId(@Param("gameId") Long gameId);
+    @Query("SELECT pm FROM PlayerMove pm WHERE pm.player.id = :playerId AND pm.game.id IN :gameIds AND " +
+            "pm.game.finished = FALSE")
+    List<PlayerMove> findUnfinishedByGameIdsAndPlayer(@Param("playerId") Long playerId,
+                                                      @Param("gameIds") Collection<Long> gameIds);
 
-    @Query("SELECT EXISTS (SELECT pm FROM PlayerMove pm WHERE pm.game.id = :gameId AND pm.game.finished = FALSE " +
-            "AND (UPPER(pm.move.move) = 'TESOURA' OR UPPER(pm.move.move) = 'JOGADA TESOURA'))")
-    boolean existsTesouraByUnfinishedGameId(@Param("gameId") Long gameId);
+    @Query("SELECT pm.player.id FROM PlayerMove pm WHERE pm.game.id = :gameId")
+    List<Long> findPlayerIdsByGameId(@Param("gameId") Long gameId);
 
-    @Query("SELECT EXISTS (SELECT pm FROM PlayerMove pm WHERE pm.game.id = :gameId AND pm.game.finished = FALSE " +
-            "AND (UPPER(pm.move.move) = 'PAPEL' OR UPPER(pm.move.move) = 'JOGADA PAPEL'))")
-    boolean existsPapelByUnfinishedGameId(@Param("gameId") Long gameId);
+    @Query("SELECT pm FROM PlayerMove pm JOIN FETCH pm.player WHERE pm.game.id = :gameId")
+    List<PlayerMove> findAllByGameId(@Param("gameId") Long gameId);
 
-    @Query("SELECT EXISTS (SELECT pm FROM PlayerMove pm WHERE pm.game.id = :gameId AND pm.game.finished = FALSE " +
-            "AND (UPPER(pm.move.move) = 'PEDRA' OR UPPER(pm.move.move) = 'JOGADA PEDRA'))")
-    boolean existsPedraByUnfinishedGameId(@Param("gameId") Long gameId);
+    @Query("SELECT pm FROM PlayerMove pm JOIN FETCH pm.player WHERE pm.game.id IN :gameIds")
+    List<PlayerMove> findAllByGameIdIn(@Param("gameIds") Collection<Long> gameIds);
 
-    @Query("SELECT EXISTS (SELECT pm FROM PlayerMove pm WHERE pm.game.id = :gameId AND pm.game.finished = FALSE " +
-            "AND (UPPER(pm.move.move) = 'LAGARTO' OR UPPER(pm.move.move) = 'JOGADA LAGARTO'))")
-    boolean existsLagartoByUnfinishedGameId(@Param("gameId") Long gameId);
+    @Modifying
+    @Query("DELETE FROM PlayerMove pm WHERE pm.game.id IN :gameIds")
+    void deleteAllByGameIdIn(@Param("gameIds") Collection<Long> gameIds);
 
-    @Query("SELECT pm FROM PlayerMove pm WHERE pm.game.id = :gameId AND pm.game.finished = FALSE " +
-            "AND pm.move.move ILIKE %:move%")
-    List<PlayerMove> findByUnfinishedGameId(@Param("gameId") Long gameId, @Param("move") String move);
+    @Query("SELECT new tech.ada.games.jokenpo.dto.PlayerMoveViewDto(pm.game.id, pm.id, p.id, p.username, p.name, " +
+            "m.id, m.move, m.code, pm.score) FROM PlayerMove pm JOIN pm.player p LEFT JOIN pm.move m " +
+            "WHERE pm.game.id IN :gameIds ORDER BY pm.id")
+    List<PlayerMoveViewDto> findViewsByGameIds(@Param("gameIds") Collection<Long> gameIds);
 
 }
@@ -1,14 +1,34 @@
 package tech.ada.games.jokenpo.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
 import tech.ada.games.jokenpo.model.Player;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
 
+    @EntityGraph(attributePaths = "roles")
     Optional<Player> findByUsername(String username);
 
+    @Query("SELECT new tech.ada.games.jokenpo.dto.PlayerViewDto(p.id, p.username, p.name) FROM Player p ORDER BY p.id")
+    List<PlayerViewDto> findAllViews();
+
+    @Query("SELECT new tech.ada.games.jokenpo.dto.PlayerViewDto(p.id, p.username, p.name) FROM Player p " +
+            "WHERE p.username = :username")
+    Optional<PlayerViewDto> findViewByUsername(@Param("username") String username);
+
+    @Query("SELECT new tech.ada.games.jokenpo.dto.PlayerViewDto(p.id, p.username, p.name) FROM Player p " +
+            "WHERE p.id IN :ids")
+    List<PlayerViewDto> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
     Boolean existsByUsername(String username);
 
+    long countByIdIn(Collection<Long> ids);
+
 }
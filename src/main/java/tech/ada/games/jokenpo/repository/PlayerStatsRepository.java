@@ -0,0 +1,33 @@
+package tech.ada.games.jokenpo.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tech.ada.games.jokenpo.model.PlayerStats;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long> {
+
+    @Modifying
+    @Query("UPDATE PlayerStats s SET s.wins = s.wins + 1 WHERE s.playerId IN :playerIds")
+    int incrementWins(@Param("playerIds") Collection<Long> playerIds);
+
+    @Modifying
+    @Query("UPDATE PlayerStats s SET s.losses = s.losses + 1 WHERE s.playerId IN :playerIds")
+    int incrementLosses(@Param("playerIds") Collection<Long> playerIds);
+
+    @Modifying
+    @Query("UPDATE PlayerStats s SET s.draws = s.draws + 1 WHERE s.playerId IN :playerIds")
+    int incrementDraws(@Param("playerIds") Collection<Long> playerIds);
+
+    @Query("SELECT p.id, p.username, p.name, s.wins, s.losses, s.draws FROM PlayerStats s, Player p " +
+            "WHERE p.id = s.playerId")
+    List<Object[]> findAllWithPlayer();
+
+    @Query("SELECT p.id FROM Player p WHERE NOT EXISTS (SELECT s FROM PlayerStats s WHERE s.playerId = p.id)")
+    List<Long> findPlayerIdsWithoutStats();
+
+}
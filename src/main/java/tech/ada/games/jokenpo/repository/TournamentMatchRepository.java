@@ -0,0 +1,26 @@
+package tech.ada.games.jokenpo.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tech.ada.games.jokenpo.model.TournamentMatch;
+
+import java.util.List;
+
+public interface TournamentMatchRepository extends JpaRepository<TournamentMatch, Long> {
+
+    @Query("SELECT DISTINCT m.tournament.id FROM TournamentMatch m WHERE m.finished = FALSE AND m.gameId IN " +
+            "(SELECT g.id FROM Game g WHERE g.finished = TRUE)")
+    List<Long> findTournamentIdsWithFinishedGames();
+
+    List<TournamentMatch> findByTournamentIdAndFinishedFalse(Long tournamentId);
+
+    List<TournamentMatch> findByTournamentIdAndRoundOrderBySlot(Long tournamentId, int round);
+
+    long countByTournamentIdAndFinishedFalse(Long tournamentId);
+
+    @Query("SELECT m.playerOneId, m.playerTwoId FROM TournamentMatch m " +
+            "WHERE m.tournament.id = :tournamentId AND m.playerTwoId IS NOT NULL")
+    List<Object[]> findPairings(@Param("tournamentId") Long tournamentId);
+
+}
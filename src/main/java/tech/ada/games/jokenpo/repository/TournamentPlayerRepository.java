@@ -0,0 +1,22 @@
+package tech.ada.games.jokenpo.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tech.ada.games.jokenpo.model.TournamentPlayer;
+
+import java.util.List;
+
+public interface TournamentPlayerRepository extends JpaRepository<TournamentPlayer, Long> {
+
+    List<TournamentPlayer> findByTournamentIdOrderBySeed(Long tournamentId);
+
+    List<TournamentPlayer> findByTournamentIdOrderByStandingAscSeedAsc(Long tournamentId, Pageable pageable);
+
+    long countByTournamentId(Long tournamentId);
+
+    @Query("SELECT COUNT(tp) FROM TournamentPlayer tp WHERE tp.playerId = :playerId AND tp.tournament.finished = FALSE")
+    long countActiveByPlayerId(@Param("playerId") Long playerId);
+
+}
@@ -0,0 +1,7 @@
+package tech.ada.games.jokenpo.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import tech.ada.games.jokenpo.model.Tournament;
+
+public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+}
@@ -1,5 +1,12 @@
 package tech.ada.games.jokenpo.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,6 +16,7 @@ import org.springframework.stereotype.Service;
 import tech.ada.games.jokenpo.model.Player;
 import tech.ada.games.jokenpo.repository.PlayerRepository;
 
+import java.time.Duration;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,21 +25,54 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private final PlayerRepository playerRepository;
 
-    public CustomUserDetailsService(PlayerRepository playerRepository) {
+    private final Cache<String, CachedPrincipal> principals;
+
+    public CustomUserDetailsService(PlayerRepository playerRepository, MeterRegistry meterRegistry,
+                                    @Value("${app.user-cache.max-size:10000}") long maxSize,
+                                    @Value("${app.user-cache.ttl-seconds:300}") long ttlSeconds) {
         this.playerRepository = playerRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "userDetails");
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException{
-        Player player = playerRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Jogador " + username + " não encontrado!"));
+        CachedPrincipal principal = principals.get(username, this::loadPrincipal);
+        if (principal == null)
+            throw new UsernameNotFoundException("Jogador " + username + " não encontrado!");
+        // o ProviderManager apaga a senha do UserDetails após autenticar, por isso cada chamada recebe uma cópia
+        return new PlayerPrincipal(principal.getId(), principal.getUsername(), principal.getPassword(),
+                principal.getAuthorities());
+    }
+
+    public void evict(String username) {
+        principals.invalidate(username);
+    }
 
+    private CachedPrincipal loadPrincipal(String username) {
+        Player player = playerRepository.findByUsername(username).orElse(null);
+        if (player == null)
+            return null;
         Set<GrantedAuthority> authorities = player
                 .getRoles()
                 .stream()
                 .map((role) -> new SimpleGrantedAuthority(role.getName())).collect(Collectors.toSet());
-         return new org.springframework.security.core.userdetails.User(player.getUsername(), player.getPassword(),
-                 authorities);
+        return new CachedPrincipal(player.getId(), player.getUsername(), player.getPassword(), Set.copyOf(authorities));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedPrincipal {
+
+        private final Long id;
+        private final String username;
+        private final String password;
+        private final Set<GrantedAuthority> authorities;
+
     }
 
 }
@@ -1,52 +1,136 @@
 package tech.ada.games.jokenpo.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String PLAYER_ID_CLAIM = "pid";
+
+    private static final String ROLES_CLAIM = "roles";
+
     @Value("${app.jwt-secret}")
     private String jwtSecret;
 
     @Value("${app.jwt-expiration-milliseconds}")
     private int jwtExpirationInMs;
 
+    @Value("${app.jwt-cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${app.jwt-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    private Key key;
+
+    private JwtParser parser;
+
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        if (cacheEnabled) {
+            verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .expireAfter(new Expiry<String, Claims>() {
+                        @Override
+                        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                            if (claims.getExpiration() == null)
+                                return 0;
+                            long ttl = claims.getExpiration().getTime() - System.currentTimeMillis();
+                            return TimeUnit.MILLISECONDS.toNanos(Math.max(ttl, 0));
+                        }
+
+                        @Override
+                        public long expireAfterUpdate(String token, Claims claims, long currentTime,
+                                                      long currentDuration) {
+                            return currentDuration;
+                        }
+
+                        @Override
+                        public long expireAfterRead(String token, Claims claims, long currentTime,
+                                                    long currentDuration) {
+                            return currentDuration;
+                        }
+                    })
+                    .build();
+        }
+    }
+
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
         Date currentDate = new Date();
         Date expireDate = new Date(currentDate.getTime() + jwtExpirationInMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+        if (authentication.getPrincipal() instanceof PlayerPrincipal player)
+            builder.claim(PLAYER_ID_CLAIM, player.getId());
+        return builder
                 .setSubject(username)
+                .claim(ROLES_CLAIM, authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
                 .setIssuedAt(new Date())
                 .setExpiration(expireDate)
-                .signWith(key())
+                .signWith(key)
                 .compact();
     }
 
     public String getUsername(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return verify(token).getSubject();
+    }
+
+    /**
+     * Monta o jogador autenticado a partir das claims assinadas, sem consultar o banco. Retorna null para tokens
+     * emitidos antes da inclusão do id do jogador.
+     */
+    public PlayerPrincipal getPrincipal(Claims claims) {
+        Number playerId = claims.get(PLAYER_ID_CLAIM, Number.class);
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (playerId == null || roles == null)
+            return null;
+        List<GrantedAuthority> authorities = roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString()))
+                .toList();
+        return new PlayerPrincipal(playerId.longValue(), claims.getSubject(), "", authorities);
     }
 
     public boolean validateToken(String token) {
+        verify(token);
+        return true;
+    }
+
+    public Claims verify(String token) {
+        if (verifiedTokens == null)
+            return parse(token);
+        Claims claims = verifiedTokens.getIfPresent(token);
+        if (claims == null) {
+            claims = parse(token);
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
+    }
+
+    private Claims parse(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key()).build()
-                    .parse(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (SignatureException ex) {
             throw new RuntimeException("JWT inválido");
         } catch (MalformedJwtException ex) {
@@ -59,10 +143,4 @@ public class JwtTokenProvider {
             throw new RuntimeException("Claims está vazio");
         }
     }
-
-    private Key key() {
-        return Keys.hmacShaKeyFor(
-                Decoders.BASE64.decode(jwtSecret)
-        );
-    }
 }
@@ -0,0 +1,20 @@
+package tech.ada.games.jokenpo.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+@Getter
+public class PlayerPrincipal extends User {
+
+    private final Long id;
+
+    public PlayerPrincipal(Long id, String username, String password,
+                           Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+
+}
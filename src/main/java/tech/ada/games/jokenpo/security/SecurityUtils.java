@@ -21,4 +21,11 @@ public class SecurityUtils {
         return username;
     }
 
+    public static Long getCurrentPlayerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PlayerPrincipal player)
+            return player.getId();
+        return null;
+    }
+
 }
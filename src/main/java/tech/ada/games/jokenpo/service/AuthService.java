@@ -1,5 +1,6 @@
 package tech.ada.games.jokenpo.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -11,6 +12,7 @@ import tech.ada.games.jokenpo.response.AuthResponse;
 import tech.ada.games.jokenpo.security.JwtTokenProvider;
 
 @Service
+@Timed(value = "jokenpo.service", percentiles = {0.5, 0.95, 0.99})
 @Slf4j
 public class AuthService {
     private final AuthenticationManager authenticationManager;
@@ -0,0 +1,133 @@
+package tech.ada.games.jokenpo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tech.ada.games.jokenpo.dto.GameEventDto;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class GameEventPublisher {
+
+    public static final String MOVE_EVENT = "move";
+    public static final String RESULT_EVENT = "result";
+    public static final String ROUND_EVENT = "round";
+
+    private final Map<Long, Set<SseEmitter>> gameSubscribers = new ConcurrentHashMap<>();
+
+    private final Map<Long, Set<SseEmitter>> playerSubscribers = new ConcurrentHashMap<>();
+
+    @Value("${app.sse.timeout-ms:1800000}")
+    private long timeout;
+
+    // cada cliente é atendido sempre pela mesma thread: os eventos chegam em ordem e um cliente lento não atrasa a
+    // requisição que gerou o evento
+    private final ExecutorService[] senders;
+
+    public GameEventPublisher(@Value("${app.sse.send-threads:4}") int sendThreads) {
+        AtomicInteger count = new AtomicInteger();
+        this.senders = new ExecutorService[sendThreads];
+        for (int i = 0; i < senders.length; i++) {
+            senders[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "sse-sender-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (ExecutorService sender : senders) {
+            sender.shutdown();
+        }
+    }
+
+    public SseEmitter subscribeGame(Long gameId) {
+        return subscribe(gameSubscribers, gameId);
+    }
+
+    public SseEmitter subscribePlayer(Long playerId) {
+        return subscribe(playerSubscribers, playerId);
+    }
+
+    public boolean hasPlayerSubscribers() {
+        return !playerSubscribers.isEmpty();
+    }
+
+    public void publish(String name, GameEventDto event, Collection<Long> playerIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(name, event, playerIds);
+                }
+            });
+        } else {
+            send(name, event, playerIds);
+        }
+    }
+
+    public void send(SseEmitter emitter, String name, Object data, boolean last) {
+        senders[Math.floorMod(System.identityHashCode(emitter), senders.length)].execute(() -> {
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+                if (last)
+                    emitter.complete();
+            } catch (IOException | IllegalStateException ex) {
+                emitter.completeWithError(ex);
+            }
+        });
+    }
+
+    private void send(String name, GameEventDto event, Collection<Long> playerIds) {
+        boolean last = RESULT_EVENT.equals(name);
+        Set<SseEmitter> emitters = last ? gameSubscribers.remove(event.getGameId())
+                : gameSubscribers.get(event.getGameId());
+        if (emitters != null) {
+            for (SseEmitter emitter : emitters) {
+                send(emitter, name, event, last);
+            }
+        }
+        for (Long playerId : playerIds) {
+            Set<SseEmitter> playerEmitters = playerSubscribers.get(playerId);
+            if (playerEmitters != null) {
+                for (SseEmitter emitter : playerEmitters) {
+                    send(emitter, name, event, false);
+                }
+            }
+        }
+    }
+
+    private SseEmitter subscribe(Map<Long, Set<SseEmitter>> subscribers, Long key) {
+        SseEmitter emitter = new SseEmitter(timeout);
+        subscribers.compute(key, (k, emitters) -> {
+            Set<SseEmitter> current = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            current.add(emitter);
+            return current;
+        });
+        Runnable unsubscribe = () -> subscribers.computeIfPresent(key, (k, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> unsubscribe.run());
+        return emitter;
+    }
+
+}
@@ -0,0 +1,47 @@
+package tech.ada.games.jokenpo.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class GameResolutionQueue {
+
+    private final BlockingQueue<Long> queue = new LinkedBlockingQueue<>();
+
+    public void submit(Long gameId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queue.add(gameId);
+                }
+            });
+        } else {
+            queue.add(gameId);
+        }
+    }
+
+    public void submitAll(Collection<Long> gameIds) {
+        queue.addAll(gameIds);
+    }
+
+    public Long poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    public int drainTo(List<Long> batch, int max) {
+        return queue.drainTo(batch, max);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+}
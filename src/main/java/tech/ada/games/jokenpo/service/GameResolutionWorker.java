@@ -0,0 +1,108 @@
+package tech.ada.games.jokenpo.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import tech.ada.games.jokenpo.metrics.SqlStatementCounter;
+import tech.ada.games.jokenpo.repository.GameRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(value = "app.async-resolution.enabled", havingValue = "true")
+@Slf4j
+public class GameResolutionWorker {
+
+    private final GameResolutionQueue gameResolutionQueue;
+    private final GameService gameService;
+    private final GameRepository gameRepository;
+    private final SqlStatementCounter sqlStatementCounter;
+    private final DistributionSummary batchStatements;
+
+    @Value("${app.async-resolution.batch-size:200}")
+    private int batchSize;
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    public GameResolutionWorker(GameResolutionQueue gameResolutionQueue, GameService gameService,
+                                GameRepository gameRepository, SqlStatementCounter sqlStatementCounter,
+                                MeterRegistry meterRegistry) {
+        this.gameResolutionQueue = gameResolutionQueue;
+        this.gameService = gameService;
+        this.gameRepository = gameRepository;
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.batchStatements = DistributionSummary.builder("jokenpo.resolution.sql.statements")
+                .description("Comandos SQL executados por lote de jogos finalizados em segundo plano")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<Long> unresolved = gameRepository.findUnresolvedGameIds();
+        if (!unresolved.isEmpty())
+            log.info("{} jogos com todas as jogadas aguardando resultado", unresolved.size());
+        gameResolutionQueue.submitAll(unresolved);
+        running = true;
+        thread = new Thread(this::run, "game-resolver");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread != null)
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void run() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Long gameId = gameResolutionQueue.poll(1, TimeUnit.SECONDS);
+                if (gameId == null)
+                    continue;
+                batch.add(gameId);
+                gameResolutionQueue.drainTo(batch, batchSize - 1);
+                sqlStatementCounter.start();
+                try {
+                    resolve(batch);
+                } finally {
+                    batchStatements.record(sqlStatementCounter.stop());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void resolve(List<Long> batch) {
+        try {
+            gameService.resolveGames(batch);
+        } catch (RuntimeException ex) {
+            log.error("Falha ao finalizar lote de {} jogos, finalizando um a um", batch.size(), ex);
+            for (Long gameId : batch) {
+                try {
+                    gameService.resolveGames(List.of(gameId));
+                } catch (RuntimeException e) {
+                    log.error("Falha ao finalizar o jogo {}", gameId, e);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package tech.ada.games.jokenpo.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import tech.ada.games.jokenpo.model.Move;
+import tech.ada.games.jokenpo.model.PlayerMove;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class GameResultResolver {
+
+    private final MoveCatalog moveCatalog;
+
+    public GameResultResolver(MoveCatalog moveCatalog) {
+        this.moveCatalog = moveCatalog;
+    }
+
+    public Result resolve(RuleSet ruleSet, List<PlayerMove> playerMoves) {
+        int[] codes = new int[playerMoves.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = codeOf(playerMoves.get(i).getMove());
+        }
+        int winningCode = ruleSet.winningCode(codes);
+        if (winningCode == 0)
+            return new Result(null, List.of());
+        List<PlayerMove> winners = new ArrayList<>();
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i] == winningCode)
+                winners.add(playerMoves.get(i));
+        }
+        return new Result(winners.get(0).getMove(), winners);
+    }
+
+    private int codeOf(Move move) {
+        return move == null ? 0 : moveCatalog.codeOf(move.getId());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+
+        private final Move winningMove;
+        private final List<PlayerMove> winners;
+
+        public boolean isDraw() {
+            return winningMove == null;
+        }
+
+    }
+
+}
@@ -1,17 +1,37 @@
 package tech.ada.games.jokenpo.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tech.ada.games.jokenpo.archive.GameArchive;
+import tech.ada.games.jokenpo.dto.BulkGameDto;
+import tech.ada.games.jokenpo.dto.BulkMoveDto;
 import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.dto.GameEventDto;
 import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.GamePageDto;
+import tech.ada.games.jokenpo.dto.GameViewDto;
+import tech.ada.games.jokenpo.dto.MoveResultDto;
+import tech.ada.games.jokenpo.dto.PlayerMoveViewDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
 import tech.ada.games.jokenpo.dto.ResultDto;
-import tech.ada.games.jokenpo.model.Move;
 import tech.ada.games.jokenpo.model.Game;
 import tech.ada.games.jokenpo.model.Player;
 import tech.ada.games.jokenpo.exception.BadRequestException;
 import tech.ada.games.jokenpo.exception.DataConflictException;
 import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.journal.JournaledGameService;
 import tech.ada.games.jokenpo.model.PlayerMove;
 import tech.ada.games.jokenpo.repository.GameRepository;
 import tech.ada.games.jokenpo.repository.PlayerMoveRepository;
@@ -19,14 +39,30 @@ import tech.ada.games.jokenpo.repository.MoveRepository;
 import tech.ada.games.jokenpo.repository.PlayerRepository;
 import tech.ada.games.jokenpo.security.SecurityUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 @Service
+@Timed(value = "jokenpo.service", percentiles = {0.5, 0.95, 0.99})
 @Slf4j
 @Transactional
 public class GameService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    private static final int MAX_BULK_GAMES = 10000;
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private static final int MAX_BULK_MOVES = 1000;
+
+    private static final int MAX_BEST_OF = 9;
+
     private final GameRepository gameRepository;
 
     private final PlayerMoveRepository playerMoveRepository;
@@ -35,131 +71,555 @@ public class GameService {
 
     private final PlayerRepository playerRepository;
 
+    private final GameResultResolver gameResultResolver;
+
+    private final PendingMovesTracker pendingMovesTracker;
+
+    private final MoveCatalog moveCatalog;
+
+    private final RuleSetRegistry ruleSetRegistry;
+
+    private final GameEventPublisher gameEventPublisher;
+
+    private final GameResolutionQueue gameResolutionQueue;
+
+    private final LeaderboardService leaderboardService;
+
+    private final ObjectMapper objectMapper;
+
+    private final EntityManager entityManager;
+
+    private final JournaledGameService journaledGameService;
+
+    private final GameArchive gameArchive;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.async-resolution.enabled:false}")
+    private boolean asyncResolution;
+
     public GameService(GameRepository gameRepository, PlayerMoveRepository playerMoveRepository,
-                       MoveRepository moveRepository, PlayerRepository playerRepository) {
+                       MoveRepository moveRepository, PlayerRepository playerRepository,
+                       GameResultResolver gameResultResolver, PendingMovesTracker pendingMovesTracker,
+                       MoveCatalog moveCatalog, RuleSetRegistry ruleSetRegistry,
+                       GameEventPublisher gameEventPublisher,
+                       GameResolutionQueue gameResolutionQueue, LeaderboardService leaderboardService,
+                       ObjectMapper objectMapper, EntityManager entityManager,
+                       ObjectProvider<JournaledGameService> journaledGameService,
+                       ObjectProvider<GameArchive> gameArchive, TransactionTemplate transactionTemplate) {
         this.gameRepository = gameRepository;
         this.playerMoveRepository = playerMoveRepository;
         this.moveRepository = moveRepository;
         this.playerRepository = playerRepository;
+        this.gameResultResolver = gameResultResolver;
+        this.pendingMovesTracker = pendingMovesTracker;
+        this.moveCatalog = moveCatalog;
+        this.ruleSetRegistry = ruleSetRegistry;
+        this.gameEventPublisher = gameEventPublisher;
+        this.gameResolutionQueue = gameResolutionQueue;
+        this.leaderboardService = leaderboardService;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.journaledGameService = journaledGameService.getIfAvailable();
+        this.gameArchive = gameArchive.getIfAvailable();
+        this.transactionTemplate = transactionTemplate;
     }
 
-    public void newGame(GameDto gameDto) throws BadRequestException, DataNotFoundException {
-        Player currentPlayer = verifyCurrentPlayer();
-        Game game = new Game();
-        game.setCreator(currentPlayer);
-        game.setCreatedAt(LocalDateTime.now());
-        game.setFinished(false);
-        if (gameDto.getPlayers().size() < 2)
-            throw new BadRequestException("O jogo possui menos que dois jogadores!");
-        Game savedGame = gameRepository.save(game);
-        for (Long playerId : gameDto.getPlayers()) {
-            Player player = playerRepository.findById(playerId).orElseThrow(() ->
-                    new DataNotFoundException("O jogador não está cadastrado!"));
-            PlayerMove playerMove = new PlayerMove();
-            playerMove.setGame(savedGame);
-            playerMove.setPlayer(player);
-            playerMoveRepository.save(playerMove);
-        }
+    public Long newGame(GameDto gameDto) throws BadRequestException, DataNotFoundException {
+        Long currentPlayerId = currentPlayerId();
+        Long gameId = startGames(List.of(currentPlayerId), List.of(gameDto)).get(0);
         log.info("Jogo iniciado com sucesso!");
+        return gameId;
+    }
+
+    public List<Long> newGames(BulkGameDto bulkGameDto) throws BadRequestException, DataNotFoundException {
+        List<GameDto> games = bulkGameDto.getGames();
+        if (games == null || games.isEmpty())
+            throw new BadRequestException("Nenhum jogo informado!");
+        if (games.size() > MAX_BULK_GAMES)
+            throw new BadRequestException("É possível criar no máximo " + MAX_BULK_GAMES + " jogos por vez!");
+        Long currentPlayerId = currentPlayerId();
+        List<Long> gameIds = startGames(Collections.nCopies(games.size(), currentPlayerId), games);
+        log.info("{} jogos iniciados com sucesso!", gameIds.size());
+        return gameIds;
+    }
+
+    public List<Long> newMatchedGames(List<List<Long>> groups) throws BadRequestException, DataNotFoundException {
+        List<GameDto> games = new ArrayList<>(groups.size());
+        List<Long> creatorIds = new ArrayList<>(groups.size());
+        for (List<Long> group : groups) {
+            games.add(new GameDto(group));
+            creatorIds.add(group.get(0));
+        }
+        List<Long> gameIds = startGames(creatorIds, games);
+        log.info("{} jogos formados no lobby", gameIds.size());
+        return gameIds;
+    }
+
+    public List<Long> newTournamentGames(Long creatorId, List<List<Long>> groups, String ruleSet)
+            throws BadRequestException, DataNotFoundException {
+        List<GameDto> games = new ArrayList<>(groups.size());
+        for (List<Long> group : groups) {
+            games.add(new GameDto(group, ruleSet));
+        }
+        return startGames(Collections.nCopies(games.size(), creatorId), games);
     }
 
     public ResultDto insertPlayerMove(GameMoveDto gameMove) throws DataNotFoundException, BadRequestException, DataConflictException {
-        Player currentPlayer = verifyCurrentPlayer();
-        Game currentGame = gameRepository.findById(gameMove.getGameId()).orElseThrow(() ->
+        Long currentPlayerId = currentPlayerId();
+        if (journaledGameService != null)
+            return journaledGameService.insertPlayerMove(currentPlayerId, gameMove);
+        Game currentGame = gameRepository.findByIdForUpdate(gameMove.getGameId()).orElseThrow(() ->
                 new DataNotFoundException("Jogo não cadastrado!"));
-        if (currentGame.getFinished())
+        PlayerMove playerMove = currentGame.getFinished() ? null : playerMoveRepository
+                .findByUnfinishedGameIdAndPlayer(currentPlayerId, gameMove.getGameId()).orElse(null);
+        int remain = registerMove(currentGame, gameMove, playerMove);
+        if (remain <= 0)
+            remain = confirmRemaining(currentGame.getId(), remain,
+                    playerMoveRepository.countPendingMovesByGameId(currentGame.getId()));
+        return completeMove(currentGame, remain, () -> playerMoveRepository.findAllByGameId(currentGame.getId()));
+    }
+
+    public List<MoveResultDto> insertPlayerMoves(BulkMoveDto bulkMoveDto) throws BadRequestException,
+            DataNotFoundException {
+        List<GameMoveDto> moves = bulkMoveDto.getMoves();
+        if (moves == null || moves.isEmpty())
+            throw new BadRequestException("Nenhuma jogada informada!");
+        if (moves.size() > MAX_BULK_MOVES)
+            throw new BadRequestException("É possível enviar no máximo " + MAX_BULK_MOVES + " jogadas por vez!");
+        Long currentPlayerId = currentPlayerId();
+        if (journaledGameService != null)
+            return insertJournaledMoves(currentPlayerId, moves);
+        Set<Long> gameIds = new HashSet<>();
+        for (GameMoveDto gameMove : moves) {
+            if (gameMove != null && gameMove.getGameId() != null)
+                gameIds.add(gameMove.getGameId());
+        }
+        Map<Long, Game> games = new HashMap<>();
+        Map<Long, PlayerMove> playerMoves = new HashMap<>();
+        if (!gameIds.isEmpty()) {
+            for (Game game : gameRepository.findAllByIdInForUpdate(gameIds)) {
+                games.put(game.getId(), game);
+            }
+            for (PlayerMove playerMove : playerMoveRepository.findUnfinishedByGameIdsAndPlayer(currentPlayerId,
+                    gameIds)) {
+                playerMoves.put(playerMove.getGame().getId(), playerMove);
+            }
+        }
+
+        List<MoveResultDto> results = new ArrayList<>(moves.size());
+        Map<Long, Integer> completed = new LinkedHashMap<>();
+        for (GameMoveDto gameMove : moves) {
+            MoveResultDto item = new MoveResultDto();
+            results.add(item);
+            try {
+                describe(item, gameMove);
+                Game game = games.get(gameMove.getGameId());
+                if (game == null)
+                    throw new DataNotFoundException("Jogo não cadastrado!");
+                int remain = registerMove(game, gameMove, playerMoves.get(game.getId()));
+                if (remain <= 0) {
+                    completed.put(game.getId(), results.size() - 1);
+                } else {
+                    item.setStatus(HttpStatus.OK.value());
+                    item.setResult(completeMove(game, remain, List::of));
+                }
+            } catch (BadRequestException | DataNotFoundException | DataConflictException e) {
+                fail(item, e);
+            }
+        }
+
+        if (!completed.isEmpty()) {
+            Map<Long, Long> pending = new HashMap<>();
+            for (Object[] row : playerMoveRepository.countPendingMovesByGameIds(completed.keySet())) {
+                pending.put((Long) row[0], (Long) row[1]);
+            }
+            Map<Long, List<PlayerMove>> movesByGame = new HashMap<>();
+            if (!asyncResolution) {
+                for (PlayerMove playerMove : playerMoveRepository.findAllByGameIdIn(completed.keySet())) {
+                    movesByGame.computeIfAbsent(playerMove.getGame().getId(), id -> new ArrayList<>()).add(playerMove);
+                }
+            }
+            for (Map.Entry<Long, Integer> entry : completed.entrySet()) {
+                Long gameId = entry.getKey();
+                int remain = confirmRemaining(gameId, 0, pending.getOrDefault(gameId, 0L));
+                ResultDto result = completeMove(games.get(gameId), remain,
+                        () -> movesByGame.getOrDefault(gameId, List.of()));
+                MoveResultDto item = results.get(entry.getValue());
+                item.setStatus(result.isPending() ? HttpStatus.ACCEPTED.value() : HttpStatus.OK.value());
+                item.setResult(result);
+            }
+        }
+        log.info("{} jogadas recebidas em lote, {} jogos finalizados", moves.size(), completed.size());
+        return results;
+    }
+
+    private List<MoveResultDto> insertJournaledMoves(Long playerId, List<GameMoveDto> moves) {
+        List<MoveResultDto> results = new ArrayList<>(moves.size());
+        for (GameMoveDto gameMove : moves) {
+            MoveResultDto item = new MoveResultDto();
+            results.add(item);
+            try {
+                describe(item, gameMove);
+                item.setResult(journaledGameService.insertPlayerMove(playerId, gameMove));
+                item.setStatus(HttpStatus.OK.value());
+            } catch (BadRequestException | DataNotFoundException | DataConflictException e) {
+                fail(item, e);
+            }
+        }
+        return results;
+    }
+
+    private static void describe(MoveResultDto item, GameMoveDto gameMove) throws BadRequestException {
+        if (gameMove == null || gameMove.getGameId() == null || gameMove.getMoveId() == null)
+            throw new BadRequestException("Jogo ou jogada não informados!");
+        item.setGameId(gameMove.getGameId());
+        item.setMoveId(gameMove.getMoveId());
+    }
+
+    private static void fail(MoveResultDto item, Exception e) {
+        ResponseStatus status = AnnotatedElementUtils.findMergedAnnotation(e.getClass(), ResponseStatus.class);
+        item.setStatus(status.code().value());
+        item.setError(e.getMessage());
+    }
+
+    private int registerMove(Game game, GameMoveDto gameMove, PlayerMove playerMove) throws BadRequestException,
+            DataNotFoundException, DataConflictException {
+        if (game.getFinished())
             throw new BadRequestException("O jogo já foi finalizado!");
-        Move move = moveRepository.findById(gameMove.getMoveId()).orElseThrow(() ->
+        MoveCatalog.Entry move = moveCatalog.findById(gameMove.getMoveId()).orElseThrow(() ->
                 new DataNotFoundException("Jogada não cadastrada"));
-        PlayerMove playerMove = playerMoveRepository.findByUnfinishedGameIdAndPlayer(currentPlayer.getId(),
-                gameMove.getGameId()).orElseThrow(() ->
-                new DataNotFoundException("Jogador não está cadastrado no jogo!"));
+        if (!ruleSetRegistry.forGame(game.getRuleSet()).contains(move.getCode()))
+            throw new BadRequestException("A jogada não faz parte das regras do jogo!");
+        if (playerMove == null)
+            throw new DataNotFoundException("Jogador não está cadastrado no jogo!");
         if (playerMove.getMove() != null)
             throw new DataConflictException("Jogador já realizou a sua jogada!");
-        playerMove.setMove(move);
+        int remain = pendingMovesTracker.decrement(game.getId(), () ->
+                playerMoveRepository.countPendingMovesByGameId(game.getId()));
+        playerMove.setMove(moveRepository.getReferenceById(move.getId()));
         playerMoveRepository.save(playerMove);
-        Long countMovesPlayed = playerMoveRepository.countMovesPlayedByUnfinishedGame(currentGame.getId());
-        Long countMovesTotal = playerMoveRepository.countByUnfinishedGameId(currentGame.getId());
-        if (Objects.equals(countMovesPlayed, countMovesTotal)) {
+        return remain;
+    }
+
+    private int confirmRemaining(Long gameId, int remain, long pending) {
+        if (remain <= 0 && pending > 0) {
+            log.warn("Contador de jogadas do jogo {} divergente, recarregando", gameId);
+            pendingMovesTracker.remove(gameId);
+            return (int) pending;
+        }
+        return remain;
+    }
+
+    private ResultDto completeMove(Game currentGame, int remain, Supplier<List<PlayerMove>> playerMoves) {
+        if (remain <= 0 && asyncResolution) {
+            log.info("Todos os jogadores já realizaram suas jogadas! Resultado final enviado para processamento!");
+            pendingMovesTracker.remove(currentGame.getId());
+            gameResolutionQueue.submit(currentGame.getId());
+            ResultDto dto = new ResultDto();
+            dto.setMessage("Jogada realizada! O resultado final será publicado em breve!");
+            dto.setPending(true);
+            publishProgress(currentGame.getId(), 0, dto);
+            return dto;
+        } else if (remain <= 0) {
             log.info("Todos os jogadores já realizaram suas jogadas! Gerando o resultado final!");
-            boolean isSpock = playerMoveRepository.existsSpockByUnfinishedGameId(currentGame.getId());
-            boolean isTesoura = playerMoveRepository.existsTesouraByUnfinishedGameId(currentGame.getId());
-            boolean isPapel = playerMoveRepository.existsPapelByUnfinishedGameId(currentGame.getId());
-            boolean isPedra = playerMoveRepository.existsPedraByUnfinishedGameId(currentGame.getId());
-            boolean isLagarto = playerMoveRepository.existsLagartoByUnfinishedGameId(currentGame.getId());
-            if (isSpock && (isTesoura || isPedra) && !isPapel && !isLagarto) {
-                return produceResult(currentGame, "Spock");
-            }
-            if (isTesoura && (isPapel || isLagarto) && !isSpock && !isPedra)
-                return produceResult(currentGame, "Tesoura");
-            if (isPapel && (isPedra || isSpock) && !isTesoura && !isLagarto)
-                return produceResult(currentGame, "Papel");
-            if (isPedra && (isLagarto || isTesoura) && !isSpock && !isPapel)
-                return produceResult(currentGame, "Pedra");
-            if (isLagarto && (isSpock || isPapel) && !isTesoura && !isPedra)
-                return produceResult(currentGame, "Lagarto");
-            return produceResult(currentGame, "Resultado Empate");
+            pendingMovesTracker.remove(currentGame.getId());
+            return finishGame(currentGame, playerMoves.get());
         } else {
-            long remain = countMovesTotal - countMovesPlayed;
             String msg = "Jogada realizada! Faltam " + remain + " jogadores para finalizar o jogo!";
             log.info(msg);
             ResultDto dto = new ResultDto();
             dto.setMessage(msg);
+            publishProgress(currentGame.getId(), remain, dto);
             return dto;
         }
     }
 
-    public List<Game> findGames() {
-        return gameRepository.findAll();
-    }
-
-    public Game findGameById(Long id) throws DataNotFoundException {
-        return gameRepository.findById(id).orElseThrow(() -> new DataNotFoundException("Este jogo não está cadastrado!"));
-    }
-
-    private ResultDto produceResult(Game currentGame, String result) {
-        if (!result.equals("Resultado Empate")) {
-            List<PlayerMove> playerMoves = playerMoveRepository.findByUnfinishedGameId(currentGame.getId(), result);
-            Long moveId = playerMoves.get(0).getMove().getId();
-            Set<Player> winners = new HashSet<>();
-            List<Long> playerIds = new ArrayList<>();
-            String msg;
-            if (playerMoves.size() == 1) {
-                msg = "Vencedor: " + playerMoves.get(0).getPlayer().getName();
-                winners.add(playerMoves.get(0).getPlayer());
-                playerIds.add(playerMoves.get(0).getPlayer().getId());
-            } else {
-                StringBuilder builderMsg = new StringBuilder("Vencedores: ");
-                for (PlayerMove pm : playerMoves) {
-                    builderMsg.append(pm.getPlayer().getName());
-                    if (playerMoves.get(playerMoves.size()-1).equals(pm)) {
-                        builderMsg.append(" ");
-                    } else {
-                        builderMsg.append(" e ");
-                    }
-                    winners.add(pm.getPlayer());
-                    playerIds.add(pm.getPlayer().getId());
-                }
-                msg = builderMsg.toString();
+    public int resolveGames(Collection<Long> gameIds) {
+        Map<Long, List<PlayerMove>> movesByGame = new HashMap<>();
+        for (PlayerMove playerMove : playerMoveRepository.findAllByGameIdIn(gameIds)) {
+            movesByGame.computeIfAbsent(playerMove.getGame().getId(), id -> new ArrayList<>()).add(playerMove);
+        }
+        int resolved = 0;
+        for (Game game : gameRepository.findAllById(gameIds)) {
+            List<PlayerMove> playerMoves = movesByGame.getOrDefault(game.getId(), List.of());
+            if (game.getFinished() || playerMoves.stream().anyMatch(pm -> pm.getMove() == null))
+                continue;
+            finishGame(game, playerMoves);
+            resolved++;
+        }
+        log.info("{} jogos finalizados em lote", resolved);
+        return resolved;
+    }
+
+    private ResultDto finishGame(Game game, List<PlayerMove> playerMoves) {
+        GameResultResolver.Result resolved = gameResultResolver.resolve(ruleSetRegistry.forGame(game.getRuleSet()),
+                playerMoves);
+        ResultDto result = game.getBestOf() == null ? produceResult(game, playerMoves, resolved)
+                : finishRound(game, playerMoves, resolved);
+        gameEventPublisher.publish(game.getFinished() ? GameEventPublisher.RESULT_EVENT : GameEventPublisher.ROUND_EVENT,
+                new GameEventDto(game.getId(), game.getFinished() ? 0 : playerMoves.size(), result),
+                playerMoves.stream().map(pm -> pm.getPlayer().getId()).toList());
+        return result;
+    }
+
+    /**
+     * Encerra uma rodada de uma partida melhor de N sobre as mesmas linhas de jogada: os vencedores da rodada somam
+     * um ponto e, enquanto ninguém atingir a maioria das rodadas, as jogadas são limpas para a rodada seguinte.
+     * Empates não contam e apenas passam para a próxima rodada.
+     */
+    private ResultDto finishRound(Game game, List<PlayerMove> playerMoves, GameResultResolver.Result resolved) {
+        int round = game.getRound();
+        int target = game.getBestOf() / 2 + 1;
+        List<PlayerMove> champions = new ArrayList<>();
+        for (PlayerMove playerMove : resolved.getWinners()) {
+            playerMove.setScore(playerMove.getScore() + 1);
+            if (playerMove.getScore() >= target)
+                champions.add(playerMove);
+        }
+        if (!champions.isEmpty()) {
+            ResultDto result = produceResult(game, playerMoves,
+                    new GameResultResolver.Result(resolved.getWinningMove(), champions));
+            result.setRound(round);
+            return result;
+        }
+        for (PlayerMove playerMove : playerMoves) {
+            playerMove.setMove(null);
+        }
+        playerMoveRepository.saveAll(playerMoves);
+        game.setRound(round + 1);
+        gameRepository.save(game);
+        pendingMovesTracker.track(game.getId(), playerMoves.size());
+        StringBuilder score = new StringBuilder();
+        for (PlayerMove playerMove : playerMoves) {
+            score.append(score.length() == 0 ? "" : " x ").append(playerMove.getPlayer().getName()).append(' ')
+                    .append(playerMove.getScore());
+        }
+        List<Long> winnerIds = resolved.getWinners().stream().map(pm -> pm.getPlayer().getId()).toList();
+        ResultDto result = new ResultDto();
+        result.setWinners(winnerIds.isEmpty() ? null : winnerIds);
+        result.setMoveId(resolved.isDraw() ? null : resolved.getWinningMove().getId());
+        result.setMessage((resolved.isDraw() ? "Rodada " + round + " empatada! " : "Rodada " + round +
+                " encerrada! ") + "Placar: " + score + ". Próxima rodada: " + (round + 1));
+        result.setRound(round);
+        return result;
+    }
+
+    private void publishProgress(Long gameId, int remain, ResultDto dto) {
+        List<Long> playerIds = gameEventPublisher.hasPlayerSubscribers()
+                ? playerMoveRepository.findPlayerIdsByGameId(gameId) : List.of();
+        gameEventPublisher.publish(GameEventPublisher.MOVE_EVENT, new GameEventDto(gameId, remain, dto), playerIds);
+    }
+
+    public GamePageDto findGames(Long after, int size, Boolean finished, Long creatorId) throws BadRequestException {
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new BadRequestException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE + "!");
+        List<GameViewDto> games = gameRepository.findViewPage(after == null ? 0L : after, finished, creatorId,
+                PageRequest.of(0, size));
+        fillGameViews(games);
+        Long nextCursor = games.size() == size ? games.get(games.size() - 1).getId() : null;
+        return new GamePageDto(games, nextCursor);
+    }
+
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void streamGames(Boolean finished, Long creatorId, OutputStream out) throws IOException {
+        long after = 0L;
+        List<GameViewDto> games;
+        do {
+            long from = after;
+            // cada bloco é lido em uma transação curta: a conexão volta ao pool enquanto o cliente consome a resposta
+            games = transactionTemplate.execute(status -> {
+                List<GameViewDto> chunk = gameRepository.findViewPage(from, finished, creatorId,
+                        PageRequest.of(0, STREAM_CHUNK_SIZE));
+                fillGameViews(chunk);
+                return chunk;
+            });
+            for (GameViewDto game : games) {
+                out.write(objectMapper.writeValueAsBytes(game));
+                out.write('\n');
+                after = game.getId();
             }
-            currentGame.setWinners(winners);
-            currentGame.setFinished(true);
-            gameRepository.save(currentGame);
-            ResultDto dto = new ResultDto();
-            dto.setWinners(playerIds);
-            dto.setMoveId(moveId);
-            dto.setMessage(msg);
-            return dto;
+            out.flush();
+        } while (games.size() == STREAM_CHUNK_SIZE);
+    }
+
+    public GameViewDto findGameById(Long id) throws DataNotFoundException {
+        Optional<GameViewDto> game = gameRepository.findViewById(id);
+        if (game.isEmpty() && gameArchive != null)
+            return gameArchive.find(id).orElseThrow(() -> new DataNotFoundException("Este jogo não está cadastrado!"));
+        fillGameViews(List.of(game.orElseThrow(() -> new DataNotFoundException("Este jogo não está cadastrado!"))));
+        return game.get();
+    }
+
+    public List<GameViewDto> findGameViews(Collection<Long> ids) {
+        if (ids.isEmpty())
+            return List.of();
+        List<GameViewDto> games = gameRepository.findViewsByIdIn(ids);
+        fillGameViews(games);
+        return games;
+    }
+
+    public List<Long> findArchivableGameIds(LocalDateTime before, int limit) {
+        return gameRepository.findFinishedIdsCreatedBefore(before, PageRequest.of(0, limit));
+    }
+
+    public void deleteGames(Collection<Long> ids) {
+        gameRepository.deleteWinnersByGameIdIn(ids);
+        playerMoveRepository.deleteAllByGameIdIn(ids);
+        gameRepository.deleteAllByIdIn(ids);
+    }
+
+    public SseEmitter subscribeGame(Long id) throws DataNotFoundException {
+        GameViewDto game = findGameById(id);
+        SseEmitter emitter = gameEventPublisher.subscribeGame(id);
+        // relido depois da inscrição para não perder uma jogada feita entre a consulta e a inscrição
+        if (!game.getFinished())
+            game = findGameById(id);
+        gameEventPublisher.send(emitter, "game", game, game.getFinished());
+        return emitter;
+    }
+
+    public SseEmitter subscribePlayer() throws DataNotFoundException {
+        Long currentPlayerId = currentPlayerId();
+        return gameEventPublisher.subscribePlayer(currentPlayerId);
+    }
+
+    private void fillGameViews(List<GameViewDto> games) {
+        if (games.isEmpty())
+            return;
+        Map<Long, GameViewDto> byId = new HashMap<>();
+        for (GameViewDto game : games) {
+            byId.put(game.getId(), game);
+        }
+        for (PlayerMoveViewDto playerMove : playerMoveRepository.findViewsByGameIds(byId.keySet())) {
+            byId.get(playerMove.getGameId()).getPlayers().add(playerMove);
+        }
+        for (Object[] row : gameRepository.findWinnerViewsByGameIds(byId.keySet())) {
+            byId.get((Long) row[0]).getWinners().add(new PlayerViewDto((Long) row[1], (String) row[2], (String) row[3]));
         }
+    }
+
+    private ResultDto produceResult(Game currentGame, List<PlayerMove> allMoves, GameResultResolver.Result result) {
+        List<Long> playerIds = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Set<Player> winners = new HashSet<>();
+        for (PlayerMove pm : result.getWinners()) {
+            winners.add(pm.getPlayer());
+            playerIds.add(pm.getPlayer().getId());
+            names.add(pm.getPlayer().getName());
+        }
+        currentGame.setWinners(winners);
+        currentGame.setFinished(true);
+        gameRepository.save(currentGame);
+        List<Long> others = allMoves.stream().map(pm -> pm.getPlayer().getId())
+                .filter(id -> !playerIds.contains(id)).toList();
+        if (result.isDraw())
+            leaderboardService.recordResult(List.of(), List.of(), others);
+        else
+            leaderboardService.recordResult(playerIds, others, List.of());
+        return resultOf(playerIds, names, result.isDraw() ? null : result.getWinningMove().getId());
+    }
+
+    public static ResultDto resultOf(List<Long> winnerIds, List<String> winnerNames, Long moveId) {
         ResultDto dto = new ResultDto();
-        dto.setMessage(result);
+        if (winnerIds.isEmpty()) {
+            dto.setMessage("Resultado Empate");
+            return dto;
+        }
+        String msg;
+        if (winnerNames.size() == 1) {
+            msg = "Vencedor: " + winnerNames.get(0);
+        } else {
+            StringBuilder builderMsg = new StringBuilder("Vencedores: ");
+            for (int i = 0; i < winnerNames.size(); i++) {
+                builderMsg.append(winnerNames.get(i));
+                builderMsg.append(i == winnerNames.size() - 1 ? " " : " e ");
+            }
+            msg = builderMsg.toString();
+        }
+        dto.setWinners(winnerIds);
+        dto.setMoveId(moveId);
+        dto.setMessage(msg);
         return dto;
     }
 
-    private Player verifyCurrentPlayer() throws DataNotFoundException {
-        String currentUser = SecurityUtils.getCurrentUserLogin();
-        return playerRepository.findByUsername(currentUser).orElseThrow(() ->
-                new DataNotFoundException("O jogador não está cadastrado!"));
+    private List<Long> startGames(List<Long> creatorIds, List<GameDto> games) throws BadRequestException,
+            DataNotFoundException {
+        if (journaledGameService == null)
+            return createGames(creatorIds, games);
+        return journaledGameService.createGames(creatorIds, games);
+    }
+
+    private List<Long> createGames(List<Long> creatorIds, List<GameDto> games) throws BadRequestException,
+            DataNotFoundException {
+        Set<Long> playerIds = new HashSet<>();
+        List<RuleSet> ruleSets = new ArrayList<>(games.size());
+        for (GameDto gameDto : games) {
+            if (gameDto.getPlayers() == null || gameDto.getPlayers().size() < 2)
+                throw new BadRequestException("O jogo possui menos que dois jogadores!");
+            if (gameDto.getBestOf() != null && (gameDto.getBestOf() < 1 || gameDto.getBestOf() > MAX_BEST_OF
+                    || gameDto.getBestOf() % 2 == 0))
+                throw new BadRequestException("A partida deve ter um número ímpar de rodadas entre 1 e " +
+                        MAX_BEST_OF + "!");
+            playerIds.addAll(gameDto.getPlayers());
+            ruleSets.add(ruleSetRegistry.forName(gameDto.getRuleSet()));
+        }
+        // o token de um jogador removido continua válido até expirar, então o criador também é conferido
+        playerIds.addAll(creatorIds);
+        if (playerRepository.countByIdIn(playerIds) != playerIds.size())
+            throw new DataNotFoundException("O jogador não está cadastrado!");
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> gameIds = new ArrayList<>(games.size());
+        List<Game> batch = new ArrayList<>();
+        for (int i = 0; i < games.size(); i++) {
+            GameDto gameDto = games.get(i);
+            Game game = new Game();
+            game.setCreator(playerRepository.getReferenceById(creatorIds.get(i)));
+            game.setCreatedAt(now);
+            game.setFinished(false);
+            game.setRuleSet(ruleSets.get(i).getName());
+            boolean match = gameDto.getBestOf() != null && gameDto.getBestOf() > 1;
+            if (match) {
+                game.setBestOf(gameDto.getBestOf());
+                game.setRound(1);
+            }
+            List<PlayerMove> playerMoves = new ArrayList<>();
+            for (Long playerId : gameDto.getPlayers()) {
+                PlayerMove playerMove = new PlayerMove();
+                playerMove.setGame(game);
+                playerMove.setPlayer(playerRepository.getReferenceById(playerId));
+                if (match)
+                    playerMove.setScore(0);
+                playerMoves.add(playerMove);
+            }
+            game.setPlayers(playerMoves);
+            batch.add(game);
+            if (batch.size() == FLUSH_CHUNK_SIZE)
+                flushGames(batch, gameIds);
+        }
+        flushGames(batch, gameIds);
+        return gameIds;
+    }
+
+    private void flushGames(List<Game> batch, List<Long> gameIds) {
+        if (batch.isEmpty())
+            return;
+        gameRepository.saveAll(batch);
+        entityManager.flush();
+        for (Game game : batch) {
+            gameIds.add(game.getId());
+            pendingMovesTracker.track(game.getId(), game.getPlayers().size());
+            // só os jogos criados saem do contexto (as jogadas vão junto pelo cascade); as entidades do chamador ficam
+            entityManager.detach(game);
+        }
+        batch.clear();
+    }
+
+    private Long currentPlayerId() throws DataNotFoundException {
+        Long playerId = SecurityUtils.getCurrentPlayerId();
+        if (playerId == null)
+            throw new DataNotFoundException("O jogador não está cadastrado!");
+        return playerId;
     }
 
 }
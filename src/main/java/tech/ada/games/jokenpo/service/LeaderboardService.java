@@ -0,0 +1,170 @@
+package tech.ada.games.jokenpo.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.ada.games.jokenpo.dto.LeaderboardEntryDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.model.Player;
+import tech.ada.games.jokenpo.model.PlayerStats;
+import tech.ada.games.jokenpo.repository.PlayerStatsRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Timed(value = "jokenpo.service", percentiles = {0.5, 0.95, 0.99})
+@Slf4j
+public class LeaderboardService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int MAX_NEIGHBOURS = 50;
+
+    private static final Comparator<Standing> RANKING = Comparator.comparingLong(Standing::getWins).reversed()
+            .thenComparingLong(Standing::getLosses)
+            .thenComparing(Standing::getPlayerId);
+
+    private final PlayerStatsRepository playerStatsRepository;
+
+    private final Map<Long, Standing> standings = new HashMap<>();
+
+    private final RankingTree<Standing> ranking = new RankingTree<>(RANKING);
+
+    public LeaderboardService(PlayerStatsRepository playerStatsRepository) {
+        this.playerStatsRepository = playerStatsRepository;
+    }
+
+    public synchronized void load() {
+        standings.clear();
+        ranking.clear();
+        for (Object[] row : playerStatsRepository.findAllWithPlayer()) {
+            put(new Standing((Long) row[0], (String) row[1], (String) row[2], (Long) row[3], (Long) row[4],
+                    (Long) row[5]));
+        }
+        log.info("{} jogadores carregados no ranking", standings.size());
+    }
+
+    public void register(Player player) {
+        playerStatsRepository.save(new PlayerStats(player.getId(), 0, 0, 0));
+        Standing standing = new Standing(player.getId(), player.getUsername(), player.getName(), 0, 0, 0);
+        afterCommit(() -> {
+            synchronized (this) {
+                put(standing);
+            }
+        });
+    }
+
+    public void unregister(Long playerId) {
+        if (playerStatsRepository.existsById(playerId))
+            playerStatsRepository.deleteById(playerId);
+        afterCommit(() -> {
+            synchronized (this) {
+                Standing standing = standings.remove(playerId);
+                if (standing != null)
+                    ranking.remove(standing);
+            }
+        });
+    }
+
+    public void recordResult(Collection<Long> winners, Collection<Long> losers, Collection<Long> draws) {
+        if (!winners.isEmpty())
+            playerStatsRepository.incrementWins(winners);
+        if (!losers.isEmpty())
+            playerStatsRepository.incrementLosses(losers);
+        if (!draws.isEmpty())
+            playerStatsRepository.incrementDraws(draws);
+        afterCommit(() -> {
+            synchronized (this) {
+                winners.forEach(id -> apply(id, 1, 0, 0));
+                losers.forEach(id -> apply(id, 0, 1, 0));
+                draws.forEach(id -> apply(id, 0, 0, 1));
+            }
+        });
+    }
+
+    public synchronized List<LeaderboardEntryDto> findPage(int page, int size) throws BadRequestException {
+        if (page < 0)
+            throw new BadRequestException("A página deve ser maior ou igual a zero!");
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new BadRequestException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE + "!");
+        long from = (long) page * size;
+        if (from >= ranking.size())
+            return List.of();
+        return toEntries(from, ranking.range((int) from, size));
+    }
+
+    public synchronized List<LeaderboardEntryDto> findNeighbours(Long playerId, int neighbours)
+            throws BadRequestException, DataNotFoundException {
+        if (neighbours < 0 || neighbours > MAX_NEIGHBOURS)
+            throw new BadRequestException("O número de vizinhos deve estar entre 0 e " + MAX_NEIGHBOURS + "!");
+        Standing standing = standings.get(playerId);
+        if (standing == null)
+            throw new DataNotFoundException("O jogador não está cadastrado!");
+        int from = Math.max(ranking.rank(standing) - neighbours, 0);
+        return toEntries(from, ranking.range(from, ranking.rank(standing) - from + neighbours + 1));
+    }
+
+    private void apply(Long playerId, long wins, long losses, long draws) {
+        Standing current = standings.get(playerId);
+        if (current == null)
+            return;
+        put(new Standing(current.getPlayerId(), current.getUsername(), current.getName(),
+                current.getWins() + wins, current.getLosses() + losses, current.getDraws() + draws));
+    }
+
+    private void put(Standing standing) {
+        Standing previous = standings.put(standing.getPlayerId(), standing);
+        if (previous != null)
+            ranking.remove(previous);
+        ranking.insert(standing);
+    }
+
+    private static List<LeaderboardEntryDto> toEntries(long firstRank, List<Standing> page) {
+        List<LeaderboardEntryDto> entries = new ArrayList<>(page.size());
+        long rank = firstRank;
+        for (Standing standing : page) {
+            entries.add(new LeaderboardEntryDto(++rank,
+                    new PlayerViewDto(standing.getPlayerId(), standing.getUsername(), standing.getName()),
+                    standing.getWins(), standing.getLosses(), standing.getDraws()));
+        }
+        return entries;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Standing {
+
+        private final Long playerId;
+        private final String username;
+        private final String name;
+        private final long wins;
+        private final long losses;
+        private final long draws;
+
+    }
+
+}
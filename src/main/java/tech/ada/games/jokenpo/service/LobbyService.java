@@ -0,0 +1,204 @@
+package tech.ada.games.jokenpo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tech.ada.games.jokenpo.dto.GameEventDto;
+import tech.ada.games.jokenpo.dto.LobbyTicketDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataConflictException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.repository.PlayerRepository;
+import tech.ada.games.jokenpo.security.SecurityUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(value = "jokenpo.service", percentiles = {0.5, 0.95, 0.99})
+@Slf4j
+public class LobbyService {
+
+    public static final String MATCH_EVENT = "match";
+
+    private final GameService gameService;
+    private final GameEventPublisher gameEventPublisher;
+    private final PlayerRepository playerRepository;
+
+    private final Map<Long, Ticket> waiting = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Deque<Ticket>> queues = new ConcurrentHashMap<>();
+
+    private final Cache<Long, LobbyTicketDto> matched = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .maximumSize(100_000)
+            .build();
+
+    @Value("${app.lobby.max-game-size:10}")
+    private int maxGameSize;
+
+    @Value("${app.lobby.max-games-per-batch:500}")
+    private int maxGamesPerBatch;
+
+    public LobbyService(GameService gameService, GameEventPublisher gameEventPublisher,
+                        PlayerRepository playerRepository) {
+        this.gameService = gameService;
+        this.gameEventPublisher = gameEventPublisher;
+        this.playerRepository = playerRepository;
+    }
+
+    public LobbyTicketDto enqueue(int size) throws BadRequestException, DataNotFoundException, DataConflictException {
+        if (size < 2 || size > maxGameSize)
+            throw new BadRequestException("O jogo deve ter entre 2 e " + maxGameSize + " jogadores!");
+        Long playerId = currentPlayerId();
+        Ticket ticket = new Ticket(playerId, size);
+        if (waiting.putIfAbsent(playerId, ticket) != null)
+            throw new DataConflictException("Jogador já está aguardando no lobby!");
+        matched.invalidate(playerId);
+        queues.computeIfAbsent(size, s -> new ConcurrentLinkedDeque<>()).add(ticket);
+        log.info("Jogador aguardando um jogo de {} jogadores", size);
+        return new LobbyTicketDto(size, null);
+    }
+
+    public LobbyTicketDto findTicket() throws DataNotFoundException {
+        Long playerId = currentPlayerId();
+        Ticket ticket = waiting.get(playerId);
+        if (ticket != null)
+            return new LobbyTicketDto(ticket.size, null);
+        LobbyTicketDto dto = matched.getIfPresent(playerId);
+        if (dto == null)
+            throw new DataNotFoundException("Jogador não está no lobby!");
+        return dto;
+    }
+
+    public void leave() throws DataNotFoundException {
+        if (waiting.remove(currentPlayerId()) == null)
+            throw new DataNotFoundException("Jogador não está no lobby!");
+    }
+
+    public void remove(Long playerId) {
+        waiting.remove(playerId);
+        matched.invalidate(playerId);
+    }
+
+    public int waitingPlayers() {
+        return waiting.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.lobby.match-interval-ms:200}")
+    public void match() {
+        for (Map.Entry<Integer, Deque<Ticket>> entry : queues.entrySet()) {
+            int size = entry.getKey();
+            Deque<Ticket> queue = entry.getValue();
+            List<List<Ticket>> groups = new ArrayList<>();
+            List<Ticket> group = new ArrayList<>(size);
+            Ticket ticket;
+            while (groups.size() < maxGamesPerBatch && (ticket = queue.poll()) != null) {
+                // o jogador pode ter saído do lobby desde que entrou na fila
+                if (waiting.get(ticket.playerId) != ticket)
+                    continue;
+                group.add(ticket);
+                if (group.size() == size) {
+                    groups.add(group);
+                    group = new ArrayList<>(size);
+                }
+            }
+            requeue(size, group);
+            if (!groups.isEmpty())
+                createGames(size, groups);
+        }
+    }
+
+    private void createGames(int size, List<List<Ticket>> groups) {
+        try {
+            matchGroups(size, groups);
+            return;
+        } catch (Exception ex) {
+            log.error("Falha ao formar {} jogos de {} jogadores no lobby, tentando jogo a jogo", groups.size(), size,
+                    ex);
+        }
+        // um jogador inválido não pode travar o lote: cada grupo é tentado sozinho e quem não existe mais sai da fila
+        List<Ticket> retry = new ArrayList<>();
+        for (List<Ticket> group : groups) {
+            try {
+                matchGroups(size, List.of(group));
+            } catch (Exception ex) {
+                Set<Long> existing = playerRepository.findViewsByIdIn(playerIdsOf(group)).stream()
+                        .map(PlayerViewDto::getId).collect(Collectors.toSet());
+                if (existing.size() == group.size())
+                    log.error("Falha ao formar um jogo de {} jogadores no lobby", size, ex);
+                for (Ticket ticket : group) {
+                    if (existing.contains(ticket.playerId)) {
+                        retry.add(ticket);
+                    } else {
+                        waiting.remove(ticket.playerId, ticket);
+                        log.warn("Jogador {} não está mais cadastrado e foi removido do lobby", ticket.playerId);
+                    }
+                }
+            }
+        }
+        requeue(size, retry);
+    }
+
+    private void matchGroups(int size, List<List<Ticket>> groups) throws BadRequestException, DataNotFoundException {
+        List<List<Long>> playerIds = groups.stream().map(LobbyService::playerIdsOf).toList();
+        List<Long> gameIds = gameService.newMatchedGames(playerIds);
+        for (int i = 0; i < groups.size(); i++) {
+            LobbyTicketDto dto = new LobbyTicketDto(size, gameIds.get(i));
+            for (Ticket ticket : groups.get(i)) {
+                matched.put(ticket.playerId, dto);
+                waiting.remove(ticket.playerId, ticket);
+            }
+            gameEventPublisher.publish(MATCH_EVENT, new GameEventDto(gameIds.get(i), size, null), playerIds.get(i));
+        }
+    }
+
+    /**
+     * Devolve os tickets originais ao início da fila, na ordem em que estavam, para que os jogadores não percam a
+     * posição. Quem saiu do lobby enquanto o jogo era formado não volta para a fila.
+     */
+    private void requeue(int size, List<Ticket> tickets) {
+        Deque<Ticket> queue = queues.get(size);
+        for (int i = tickets.size() - 1; i >= 0; i--) {
+            Ticket ticket = tickets.get(i);
+            if (waiting.get(ticket.playerId) == ticket)
+                queue.offerFirst(ticket);
+        }
+    }
+
+    private static List<Long> playerIdsOf(List<Ticket> group) {
+        return group.stream().map(ticket -> ticket.playerId).toList();
+    }
+
+    private Long currentPlayerId() throws DataNotFoundException {
+        Long playerId = SecurityUtils.getCurrentPlayerId();
+        if (playerId == null)
+            throw new DataNotFoundException("O jogador não está cadastrado!");
+        return playerId;
+    }
+
+    private static final class Ticket {
+
+        private final Long playerId;
+        private final int size;
+
+        private Ticket(Long playerId, int size) {
+            this.playerId = playerId;
+            this.size = size;
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package tech.ada.games.jokenpo.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tech.ada.games.jokenpo.model.Move;
+import tech.ada.games.jokenpo.repository.MoveRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@Slf4j
+public class MoveCatalog {
+
+    private final MoveRepository moveRepository;
+
+    private final RuleSetRegistry ruleSetRegistry;
+
+    private volatile Map<Long, Entry> byId = Map.of();
+
+    public MoveCatalog(MoveRepository moveRepository, RuleSetRegistry ruleSetRegistry) {
+        this.moveRepository = moveRepository;
+        this.ruleSetRegistry = ruleSetRegistry;
+    }
+
+    public synchronized void load() {
+        List<Move> moves = moveRepository.findAll();
+        Map<Long, Entry> entries = new HashMap<>();
+        for (Move move : moves) {
+            if (move.getCode() == null) {
+                Optional<Integer> code = ruleSetRegistry.codeOf(move.getMove());
+                if (code.isEmpty()) {
+                    log.warn("Jogada {} não reconhecida, ignorada no catálogo", move.getMove());
+                    continue;
+                }
+                move.setCode(code.get());
+                moveRepository.save(move);
+            }
+            entries.put(move.getId(), toEntry(move));
+        }
+        byId = Map.copyOf(entries);
+        log.info("{} jogadas carregadas no catálogo", byId.size());
+    }
+
+    public synchronized void register(Move move) {
+        Map<Long, Entry> entries = new HashMap<>(byId);
+        entries.put(move.getId(), toEntry(move));
+        byId = Map.copyOf(entries);
+    }
+
+    public Optional<Entry> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    public int codeOf(Long moveId) {
+        Entry entry = moveId == null ? null : byId.get(moveId);
+        return entry == null ? 0 : entry.getCode();
+    }
+
+    private static Entry toEntry(Move move) {
+        return new Entry(move.getId(), move.getMove(), move.getCode());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+
+        private final Long id;
+        private final String move;
+        private final int code;
+
+    }
+
+}
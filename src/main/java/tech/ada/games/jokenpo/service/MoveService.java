@@ -1,7 +1,10 @@
 package tech.ada.games.jokenpo.service;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import tech.ada.games.jokenpo.dto.MoveDto;
+import tech.ada.games.jokenpo.dto.MoveViewDto;
+import tech.ada.games.jokenpo.dto.RuleSetDto;
 import tech.ada.games.jokenpo.exception.BadRequestException;
 import tech.ada.games.jokenpo.exception.DataConflictException;
 import tech.ada.games.jokenpo.exception.DataNotFoundException;
@@ -11,43 +14,46 @@ import tech.ada.games.jokenpo.repository.MoveRepository;
 import java.util.List;
 
 @Service
+@Timed(value = "jokenpo.service", percentiles = {0.5, 0.95, 0.99})
 public class MoveService {
 
     private final MoveRepository moveRepository;
+    private final MoveCatalog moveCatalog;
+    private final RuleSetRegistry ruleSetRegistry;
 
-    public MoveService(MoveRepository moveRepository) {
+    public MoveService(MoveRepository moveRepository, MoveCatalog moveCatalog, RuleSetRegistry ruleSetRegistry) {
         this.moveRepository = moveRepository;
+        this.moveCatalog = moveCatalog;
+        this.ruleSetRegistry = ruleSetRegistry;
     }
 
     public void createMove(MoveDto moveDto) throws DataConflictException, BadRequestException {
         if (moveRepository.existsByMove(moveDto.getMove()))
             throw new DataConflictException("A jogada já está cadastrada!");
-        if (!moveDto.getMove().equalsIgnoreCase("Spock") &&
-                !moveDto.getMove().equalsIgnoreCase("Jogada Spock") &&
-                !moveDto.getMove().equalsIgnoreCase("Tesoura") &&
-                !moveDto.getMove().equalsIgnoreCase("Jogada Tesoura") &&
-                !moveDto.getMove().equalsIgnoreCase("Papel") &&
-                !moveDto.getMove().equalsIgnoreCase("Jogada Papel") &&
-                !moveDto.getMove().equalsIgnoreCase("Pedra") &&
-                !moveDto.getMove().equalsIgnoreCase("Jogada Pedra") &&
-                !moveDto.getMove().equalsIgnoreCase("Lagarto") &&
-                !moveDto.getMove().equalsIgnoreCase("Jogada Lagarto")) {
-            throw new BadRequestException("Você pode cadastrar apenas os movimentos Spock, Tesoura, Papel, Pedra e Lagarto");
-        }
+        Integer code = ruleSetRegistry.codeOf(moveDto.getMove()).orElseThrow(() ->
+                new BadRequestException("Você pode cadastrar apenas as jogadas " + String.join(", ", ruleSetRegistry.getMoves())));
         Move move = new Move();
         move.setMove(moveDto.getMove());
-        moveRepository.save(move);
+        move.setCode(code);
+        moveCatalog.register(moveRepository.save(move));
     }
 
-    public List<Move> findMoves() throws DataNotFoundException {
-        List<Move> moves = moveRepository.findAll();
+    public List<RuleSetDto> findRuleSets() {
+        return ruleSetRegistry.getRuleSets().stream()
+                .map(ruleSet -> new RuleSetDto(ruleSet.getName(), ruleSet.getMoves(),
+                        ruleSet == ruleSetRegistry.getDefaultRuleSet()))
+                .toList();
+    }
+
+    public List<MoveViewDto> findMoves() throws DataNotFoundException {
+        List<MoveViewDto> moves = moveRepository.findAllViews();
         if (moves.isEmpty())
             throw new DataNotFoundException("Não há jogadas cadastradas!");
         return moves;
     }
 
-    public Move findByMove(String move) throws DataNotFoundException {
-        return moveRepository.findByMove(move).orElseThrow(() -> new DataNotFoundException("A jogada não está cadastrada!"));
+    public MoveViewDto findByMove(String move) throws DataNotFoundException {
+        return moveRepository.findViewByMove(move).orElseThrow(() -> new DataNotFoundException("A jogada não está cadastrada!"));
     }
 
 }
@@ -0,0 +1,67 @@
+package tech.ada.games.jokenpo.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+@Component
+public class PendingMovesTracker {
+
+    private final Map<Long, AtomicInteger> pending = new ConcurrentHashMap<>();
+
+    public void track(Long gameId, int remaining) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.putIfAbsent(gameId, new AtomicInteger(remaining));
+                }
+            });
+        } else {
+            pending.putIfAbsent(gameId, new AtomicInteger(remaining));
+        }
+    }
+
+    public int decrement(Long gameId, LongSupplier loader) {
+        AtomicInteger counter = pending.get(gameId);
+        if (counter == null) {
+            // a contagem é lida fora do mapa para não segurar o lock do bin durante a consulta ao banco
+            AtomicInteger loaded = new AtomicInteger((int) loader.getAsLong());
+            AtomicInteger existing = pending.putIfAbsent(gameId, loaded);
+            counter = existing == null ? loaded : existing;
+        }
+        return decrement(counter);
+    }
+
+    private int decrement(AtomicInteger counter) {
+        int remaining = counter.decrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED)
+                        counter.incrementAndGet();
+                }
+            });
+        }
+        return remaining;
+    }
+
+    public void remove(Long gameId) {
+        pending.remove(gameId);
+    }
+
+    public int openGames() {
+        return pending.size();
+    }
+
+    public long pendingMoves() {
+        return pending.values().stream().mapToLong(AtomicInteger::get).sum();
+    }
+
+}
@@ -1,9 +1,14 @@
 package tech.ada.games.jokenpo.service;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import tech.ada.games.jokenpo.dto.PlayerDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
 import tech.ada.games.jokenpo.exception.DataConflictException;
 import tech.ada.games.jokenpo.exception.DataNotFoundException;
 import tech.ada.games.jokenpo.model.Player;
@@ -11,29 +16,44 @@ import tech.ada.games.jokenpo.model.Role;
 import tech.ada.games.jokenpo.repository.PlayerMoveRepository;
 import tech.ada.games.jokenpo.repository.PlayerRepository;
 import tech.ada.games.jokenpo.repository.RoleRepository;
+import tech.ada.games.jokenpo.repository.TournamentPlayerRepository;
+import tech.ada.games.jokenpo.security.CustomUserDetailsService;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 @Service
+@Timed(value = "jokenpo.service", percentiles = {0.5, 0.95, 0.99})
 @Slf4j
 public class PlayerService {
 
     private final PlayerRepository playerRepository;
     private final RoleRepository roleRepository;
     private final PlayerMoveRepository playerMoveRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
+    private final LeaderboardService leaderboardService;
+    private final LobbyService lobbyService;
 
     public PlayerService(PlayerRepository playerRepository, RoleRepository roleRepository,
-                         PlayerMoveRepository playerMoveRepository, PasswordEncoder passwordEncoder) {
+                         PlayerMoveRepository playerMoveRepository,
+                         TournamentPlayerRepository tournamentPlayerRepository, PasswordEncoder passwordEncoder,
+                         CustomUserDetailsService userDetailsService, LeaderboardService leaderboardService,
+                         LobbyService lobbyService) {
         this.playerRepository = playerRepository;
         this.roleRepository = roleRepository;
         this.playerMoveRepository = playerMoveRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
+        this.leaderboardService = leaderboardService;
+        this.lobbyService = lobbyService;
     }
 
 
+    @Transactional(rollbackOn = Exception.class)
     public void createPlayer(PlayerDto playerDto) throws DataConflictException {
         if (playerRepository.existsByUsername(playerDto.getUsername()))
             throw new DataConflictException("O jogador já está cadastrado!");
@@ -48,26 +68,52 @@ public class PlayerService {
         roles.add(role);
         player.setRoles(roles);
         playerRepository.save(player);
+        // a linha de estatísticas entra na mesma transação; o ranking em memória só muda depois do commit
+        leaderboardService.register(player);
+        afterCommit(() -> userDetailsService.evict(player.getUsername()));
         log.info("Jogador registrado com sucesso!");
     }
 
-    public List<Player> findPlayers() throws DataNotFoundException {
-        List<Player> players = playerRepository.findAll();
+    public List<PlayerViewDto> findPlayers() throws DataNotFoundException {
+        List<PlayerViewDto> players = playerRepository.findAllViews();
         if (players.isEmpty())
             throw new DataNotFoundException("Não há jogadores cadastrados!");
         return players;
     }
 
-    public Player findByPlayer(String player) throws DataNotFoundException {
-        return playerRepository.findByUsername(player).orElseThrow(() -> new DataNotFoundException("O jogador não está cadastrado!"));
+    public PlayerViewDto findByPlayer(String player) throws DataNotFoundException {
+        return playerRepository.findViewByUsername(player).orElseThrow(() -> new DataNotFoundException("O jogador não está cadastrado!"));
     }
 
+    @Transactional(rollbackOn = Exception.class)
     public void deletePlayer(Long id) throws DataNotFoundException, DataConflictException {
         Player p = playerRepository.findById(id).orElseThrow(() -> new DataNotFoundException("O jogador não está cadastrado!"));
         if (playerMoveRepository.countByUnfinishedGameAndPlayer(id) > 0) {
             throw new DataConflictException("O jogador está registrado em uma partida não finalizada!");
         }
+        if (tournamentPlayerRepository.countActiveByPlayerId(id) > 0) {
+            throw new DataConflictException("O jogador está registrado em um torneio não finalizado!");
+        }
         playerRepository.delete(p);
+        leaderboardService.unregister(id);
+        // removido do cache só depois do commit, para que uma requisição concorrente não recoloque o jogador
+        afterCommit(() -> {
+            userDetailsService.evict(p.getUsername());
+            lobbyService.remove(id);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
 }
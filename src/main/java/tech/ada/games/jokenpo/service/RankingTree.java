@@ -0,0 +1,144 @@
+package tech.ada.games.jokenpo.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Treap com o tamanho de cada subárvore: inserção, remoção, posição e seleção por posição em O(log n)
+class RankingTree<T> {
+
+    private final Comparator<T> comparator;
+
+    private final SplittableRandom random = new SplittableRandom();
+
+    private Node<T> root;
+
+    RankingTree(Comparator<T> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    void insert(T value) {
+        List<Node<T>> parts = split(root, value);
+        root = merge(merge(parts.get(0), new Node<>(value, random.nextInt())), parts.get(1));
+    }
+
+    void remove(T value) {
+        root = remove(root, value);
+    }
+
+    int rank(T value) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int c = comparator.compare(value, node.value);
+            if (c == 0)
+                return rank + size(node.left);
+            if (c < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    T select(int rank) {
+        Node<T> node = root;
+        while (node != null) {
+            int left = size(node.left);
+            if (rank < left) {
+                node = node.left;
+            } else if (rank == left) {
+                return node.value;
+            } else {
+                rank -= left + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    List<T> range(int from, int count) {
+        List<T> values = new ArrayList<>(Math.max(0, Math.min(count, size() - from)));
+        for (int rank = Math.max(from, 0); rank < from + count && rank < size(); rank++) {
+            values.add(select(rank));
+        }
+        return values;
+    }
+
+    private Node<T> remove(Node<T> node, T value) {
+        if (node == null)
+            return null;
+        int c = comparator.compare(value, node.value);
+        if (c == 0)
+            return merge(node.left, node.right);
+        if (c < 0)
+            node.left = remove(node.left, value);
+        else
+            node.right = remove(node.right, value);
+        return update(node);
+    }
+
+    // parte a árvore em [menores que value, maiores ou iguais a value]
+    private List<Node<T>> split(Node<T> node, T value) {
+        if (node == null)
+            return Arrays.asList(null, null);
+        if (comparator.compare(node.value, value) < 0) {
+            List<Node<T>> parts = split(node.right, value);
+            node.right = parts.get(0);
+            return Arrays.asList(update(node), parts.get(1));
+        }
+        List<Node<T>> parts = split(node.left, value);
+        node.left = parts.get(1);
+        return Arrays.asList(parts.get(0), update(node));
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null)
+            return right;
+        if (right == null)
+            return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static <T> Node<T> update(Node<T> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+
+        private final T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+    }
+
+}
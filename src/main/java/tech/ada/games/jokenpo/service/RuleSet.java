@@ -0,0 +1,90 @@
+package tech.ada.games.jokenpo.service;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Conjunto de regras compilado em matrizes de dominância. As jogadas ficam em ordem circular e cada uma vence as
+ * (n - 1) / 2 jogadas seguintes, o que cobre o clássico, o Spock/Lagarto e as variantes maiores como o RPS-15.
+ */
+public class RuleSet {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final List<String> moves;
+
+    // código global da jogada -> posição no conjunto, -1 quando não faz parte das regras
+    private final int[] indexByCode;
+
+    private final int[] codes;
+
+    // beats[i] e beatenBy[i] são bitsets das jogadas vencidas pela jogada i e das que vencem a jogada i
+    private final long[][] beats;
+
+    private final long[][] beatenBy;
+
+    private final int words;
+
+    RuleSet(String name, List<String> moves, int[] codes, int maxCode) {
+        int size = codes.length;
+        if (size < 3 || size % 2 == 0)
+            throw new IllegalStateException("As regras " + name + " precisam de um número ímpar de jogadas, a partir de três");
+        this.name = name;
+        this.moves = List.copyOf(moves);
+        this.codes = codes.clone();
+        this.indexByCode = new int[maxCode + 1];
+        Arrays.fill(indexByCode, -1);
+        this.words = (size + Long.SIZE - 1) / Long.SIZE;
+        this.beats = new long[size][words];
+        this.beatenBy = new long[size][words];
+        for (int i = 0; i < size; i++) {
+            if (indexByCode[codes[i]] >= 0)
+                throw new IllegalStateException("Jogada " + moves.get(i) + " repetida nas regras " + name);
+            indexByCode[codes[i]] = i;
+            for (int k = 1; k <= size / 2; k++) {
+                int beaten = (i + k) % size;
+                beats[i][beaten >>> 6] |= 1L << beaten;
+                beatenBy[beaten][i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    public boolean contains(int code) {
+        return code > 0 && code < indexByCode.length && indexByCode[code] >= 0;
+    }
+
+    /**
+     * Retorna o código da jogada vencedora ou 0 em caso de empate. A jogada vencedora é a única presente que vence
+     * alguma outra presente sem ser vencida por nenhuma; códigos fora das regras são ignorados.
+     */
+    public int winningCode(int[] playedCodes) {
+        long[] present = new long[words];
+        for (int code : playedCodes) {
+            if (contains(code)) {
+                int index = indexByCode[code];
+                present[index >>> 6] |= 1L << index;
+            }
+        }
+        for (int word = 0; word < present.length; word++) {
+            for (long bits = present[word]; bits != 0; bits &= bits - 1) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (intersects(present, beats[index]) && !intersects(present, beatenBy[index]))
+                    return codes[index];
+            }
+        }
+        return 0;
+    }
+
+    private static boolean intersects(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if ((a[i] & b[i]) != 0)
+                return true;
+        }
+        return false;
+    }
+
+}
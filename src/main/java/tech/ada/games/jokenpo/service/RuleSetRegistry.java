@@ -0,0 +1,112 @@
+package tech.ada.games.jokenpo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Carrega os conjuntos de regras descritos em JSON. A lista "moves" define o código global de cada jogada (posição
+ * + 1) e só deve crescer no final, pois os códigos ficam gravados nas jogadas cadastradas e nos arquivos de jogos.
+ */
+@Component
+@Slf4j
+public class RuleSetRegistry {
+
+    // limite do código de jogada gravado em um byte pelo arquivo de jogos
+    private static final int MAX_MOVES = 255;
+
+    private static final String PREFIX = "JOGADA ";
+
+    private final Map<String, Integer> codesByName = new HashMap<>();
+
+    @Getter
+    private final List<String> moves = new ArrayList<>();
+
+    private final Map<String, RuleSet> ruleSets = new LinkedHashMap<>();
+
+    @Getter
+    private final RuleSet defaultRuleSet;
+
+    public RuleSetRegistry(ObjectMapper objectMapper,
+                           @Value("${app.rules.location:classpath:rulesets.json}") Resource location,
+                           @Value("${app.rules.default:rpsls}") String defaultName) throws IOException {
+        JsonNode root;
+        try (InputStream in = location.getInputStream()) {
+            root = objectMapper.readTree(in);
+        }
+        for (JsonNode move : root.path("moves")) {
+            moves.add(move.asText());
+            if (codesByName.put(normalize(move.asText()), moves.size()) != null)
+                throw new IllegalStateException("Jogada " + move.asText() + " repetida no cadastro de regras");
+        }
+        if (moves.size() > MAX_MOVES)
+            throw new IllegalStateException("O cadastro de regras permite no máximo " + MAX_MOVES + " jogadas");
+        for (JsonNode node : root.path("ruleSets")) {
+            String name = node.path("name").asText();
+            List<String> labels = new ArrayList<>();
+            List<Integer> codes = new ArrayList<>();
+            for (JsonNode move : node.path("moves")) {
+                labels.add(move.asText());
+                codes.add(codeOf(move.asText()).orElseThrow(() -> new IllegalStateException(
+                        "Jogada " + move.asText() + " das regras " + name + " não cadastrada")));
+            }
+            ruleSets.put(name, new RuleSet(name, labels, codes.stream().mapToInt(Integer::intValue).toArray(),
+                    moves.size()));
+        }
+        defaultRuleSet = ruleSets.get(defaultName);
+        if (defaultRuleSet == null)
+            throw new IllegalStateException("Regras padrão " + defaultName + " não cadastradas");
+        log.info("{} conjuntos de regras carregados, padrão {}", ruleSets.size(), defaultName);
+    }
+
+    public Optional<Integer> codeOf(String move) {
+        return move == null ? Optional.empty() : Optional.ofNullable(codesByName.get(normalize(move)));
+    }
+
+    public List<RuleSet> getRuleSets() {
+        return List.copyOf(ruleSets.values());
+    }
+
+    /**
+     * Regras escolhidas para um novo jogo; sem nome, valem as regras padrão.
+     */
+    public RuleSet forName(String name) throws BadRequestException {
+        if (name == null)
+            return defaultRuleSet;
+        RuleSet ruleSet = ruleSets.get(name);
+        if (ruleSet == null)
+            throw new BadRequestException("As regras " + name + " não estão cadastradas!");
+        return ruleSet;
+    }
+
+    /**
+     * Regras de um jogo já criado; jogos anteriores à escolha de regras usam as regras padrão.
+     */
+    public RuleSet forGame(String name) {
+        RuleSet ruleSet = name == null ? null : ruleSets.get(name);
+        return ruleSet == null ? defaultRuleSet : ruleSet;
+    }
+
+    private static String normalize(String name) {
+        String normalized = name.trim().toUpperCase(Locale.ROOT);
+        if (normalized.startsWith(PREFIX))
+            normalized = normalized.substring(PREFIX.length()).trim();
+        return normalized;
+    }
+
+}
@@ -0,0 +1,257 @@
+package tech.ada.games.jokenpo.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pareamentos e classificação dos torneios, calculados sobre os índices dos participantes (posição na ordem de
+ * inscrição) e divididos em tarefas de fork/join para que torneios com milhares de jogadores avancem em poucos
+ * milissegundos.
+ */
+@Component
+public class TournamentPairing {
+
+    private static final int THRESHOLD = 1024;
+
+    /**
+     * Soma dos pontos dos adversários de cada jogador, usada como critério de desempate.
+     */
+    public long[] buchholz(int[] points, int[][] opponents) {
+        long[] buchholz = new long[points.length];
+        ForkJoinPool.commonPool().invoke(new BuchholzTask(points, opponents, buchholz, 0, points.length));
+        return buchholz;
+    }
+
+    /**
+     * Índices dos jogadores do primeiro ao último colocado: pontos, desempate e ordem de inscrição.
+     */
+    public int[] rank(int[] points, long[] buchholz) {
+        Integer[] order = new Integer[points.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.parallelSort(order, Comparator.<Integer>comparingInt(i -> points[i]).reversed()
+                .thenComparing(Comparator.<Integer>comparingLong(i -> buchholz[i]).reversed())
+                .thenComparingInt(i -> i));
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Primeira rodada da eliminatória na ordem da chave, em que os cabeças de chave só se encontram nas fases finais
+     * e as folgas ficam com os melhores colocados quando o número de jogadores não é potência de dois.
+     */
+    public Pairing[] elimination(int players) {
+        int size = bracketSize(players);
+        int[] order = {1};
+        while (order.length < size) {
+            int[] next = new int[order.length * 2];
+            for (int k = 0; k < order.length; k++) {
+                next[2 * k] = order[k];
+                next[2 * k + 1] = 2 * order.length + 1 - order[k];
+            }
+            order = next;
+        }
+        Pairing[] pairings = new Pairing[size / 2];
+        for (int k = 0; k < pairings.length; k++) {
+            int second = order[2 * k + 1];
+            pairings[k] = new Pairing(order[2 * k] - 1, second > players ? -1 : second - 1);
+        }
+        return pairings;
+    }
+
+    public static int bracketSize(int players) {
+        int size = Integer.highestOneBit(players);
+        return size < players ? size << 1 : size;
+    }
+
+    /**
+     * Rodada do todos contra todos pelo método do círculo: o primeiro jogador fica fixo e os demais giram uma
+     * posição por rodada. Com número ímpar de jogadores, quem enfrentaria a posição extra folga.
+     */
+    public Pairing[] roundRobin(int players, int round) {
+        int size = players % 2 == 0 ? players : players + 1;
+        Pairing[] pairings = new Pairing[size / 2];
+        ForkJoinPool.commonPool().invoke(new RoundRobinTask(players, size, round - 1, pairings, 0, pairings.length));
+        return pairings;
+    }
+
+    /**
+     * Rodada do sistema suíço a partir da classificação atual. A folga vai para o pior colocado que ainda não folgou
+     * (ou para o último, se todos já folgaram) e os demais são divididos em blocos de mesma pontuação com tamanho par (o excedente de um grupo ímpar desce
+     * para o grupo seguinte). Cada bloco é pareado em paralelo evitando revanches.
+     */
+    public Pairing[] swiss(int[] order, int[] points, boolean[] hadBye, int[][] opponents) {
+        int[] field = order;
+        Pairing bye = null;
+        if (order.length % 2 == 1) {
+            int at = order.length - 1;
+            while (at >= 0 && hadBye[order[at]])
+                at--;
+            // todos já folgaram: a folga volta para o pior colocado, nunca para o líder
+            if (at < 0)
+                at = order.length - 1;
+            bye = new Pairing(order[at], -1);
+            field = new int[order.length - 1];
+            System.arraycopy(order, 0, field, 0, at);
+            System.arraycopy(order, at + 1, field, at, order.length - at - 1);
+        }
+        List<int[]> blocks = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < field.length; i++) {
+            boolean groupEnds = i + 1 == field.length || points[field[i + 1]] != points[field[i]];
+            if (groupEnds && (i + 1 - start) % 2 == 0) {
+                blocks.add(new int[]{start, i + 1});
+                start = i + 1;
+            }
+        }
+        Pairing[] pairings = new Pairing[field.length / 2 + (bye == null ? 0 : 1)];
+        ForkJoinPool.commonPool().invoke(new SwissTask(field, opponents, blocks, 0, blocks.size(), pairings));
+        if (bye != null)
+            pairings[pairings.length - 1] = bye;
+        return pairings;
+    }
+
+    private static void pairBlock(int[] field, int from, int to, int[][] opponents, Pairing[] pairings) {
+        boolean[] used = new boolean[to - from];
+        int slot = from / 2;
+        for (int i = from; i < to; i++) {
+            if (used[i - from])
+                continue;
+            used[i - from] = true;
+            int partner = -1;
+            int fallback = -1;
+            for (int j = i + 1; j < to && partner < 0; j++) {
+                if (used[j - from])
+                    continue;
+                if (fallback < 0)
+                    fallback = j;
+                if (!played(opponents[field[i]], field[j]))
+                    partner = j;
+            }
+            // todos os restantes do bloco já enfrentaram o jogador: a revanche é inevitável
+            if (partner < 0)
+                partner = fallback;
+            used[partner - from] = true;
+            pairings[slot++] = new Pairing(field[i], field[partner]);
+        }
+    }
+
+    private static boolean played(int[] opponents, int player) {
+        for (int opponent : opponents) {
+            if (opponent == player)
+                return true;
+        }
+        return false;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Pairing {
+
+        private final int playerOne;
+        // -1 quando o primeiro jogador folga na rodada
+        private final int playerTwo;
+
+        public boolean isBye() {
+            return playerTwo < 0;
+        }
+
+    }
+
+    @AllArgsConstructor
+    private static class BuchholzTask extends RecursiveAction {
+
+        private final int[] points;
+        private final int[][] opponents;
+        private final long[] buchholz;
+        private final int from;
+        private final int to;
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    long sum = 0;
+                    for (int opponent : opponents[i]) {
+                        sum += points[opponent];
+                    }
+                    buchholz[i] = sum;
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BuchholzTask(points, opponents, buchholz, from, middle),
+                    new BuchholzTask(points, opponents, buchholz, middle, to));
+        }
+
+    }
+
+    @AllArgsConstructor
+    private static class RoundRobinTask extends RecursiveAction {
+
+        private final int players;
+        private final int size;
+        private final int round;
+        private final Pairing[] pairings;
+        private final int from;
+        private final int to;
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int k = from; k < to; k++) {
+                    int one = playerAt(k);
+                    int two = playerAt(size - 1 - k);
+                    if (one >= players)
+                        pairings[k] = new Pairing(two, -1);
+                    else if (two >= players)
+                        pairings[k] = new Pairing(one, -1);
+                    else
+                        pairings[k] = new Pairing(one, two);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RoundRobinTask(players, size, round, pairings, from, middle),
+                    new RoundRobinTask(players, size, round, pairings, middle, to));
+        }
+
+        private int playerAt(int position) {
+            return position == 0 ? 0 : 1 + (position - 1 + round) % (size - 1);
+        }
+
+    }
+
+    @AllArgsConstructor
+    private static class SwissTask extends RecursiveAction {
+
+        private final int[] field;
+        private final int[][] opponents;
+        private final List<int[]> blocks;
+        private final int from;
+        private final int to;
+        private final Pairing[] pairings;
+
+        @Override
+        protected void compute() {
+            int players = blocks.isEmpty() || from == to ? 0 : blocks.get(to - 1)[1] - blocks.get(from)[0];
+            if (to - from <= 1 || players <= THRESHOLD) {
+                for (int b = from; b < to; b++) {
+                    pairBlock(field, blocks.get(b)[0], blocks.get(b)[1], opponents, pairings);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SwissTask(field, opponents, blocks, from, middle, pairings),
+                    new SwissTask(field, opponents, blocks, middle, to, pairings));
+        }
+
+    }
+
+}
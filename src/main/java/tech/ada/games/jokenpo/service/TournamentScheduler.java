@@ -0,0 +1,32 @@
+package tech.ada.games.jokenpo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Avança periodicamente os torneios com jogos finalizados. Cada torneio é processado na sua própria transação, para
+ * que a falha de um não impeça o avanço dos demais.
+ */
+@Component
+@Slf4j
+public class TournamentScheduler {
+
+    private final TournamentService tournamentService;
+
+    public TournamentScheduler(TournamentService tournamentService) {
+        this.tournamentService = tournamentService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.tournament.advance-interval-ms:500}")
+    public void advance() {
+        for (Long tournamentId : tournamentService.findTournamentsToAdvance()) {
+            try {
+                tournamentService.advance(tournamentId);
+            } catch (Exception ex) {
+                log.error("Falha ao avançar o torneio {}", tournamentId, ex);
+            }
+        }
+    }
+
+}
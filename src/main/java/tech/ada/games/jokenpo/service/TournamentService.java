@@ -0,0 +1,422 @@
+package tech.ada.games.jokenpo.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import tech.ada.games.jokenpo.dto.GameEventDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.dto.TournamentDto;
+import tech.ada.games.jokenpo.dto.TournamentMatchDto;
+import tech.ada.games.jokenpo.dto.TournamentStandingDto;
+import tech.ada.games.jokenpo.dto.TournamentViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.model.Tournament;
+import tech.ada.games.jokenpo.model.TournamentFormat;
+import tech.ada.games.jokenpo.model.TournamentMatch;
+import tech.ada.games.jokenpo.model.TournamentPlayer;
+import tech.ada.games.jokenpo.repository.GameRepository;
+import tech.ada.games.jokenpo.repository.PlayerRepository;
+import tech.ada.games.jokenpo.repository.TournamentMatchRepository;
+import tech.ada.games.jokenpo.repository.TournamentPlayerRepository;
+import tech.ada.games.jokenpo.repository.TournamentRepository;
+import tech.ada.games.jokenpo.security.SecurityUtils;
+import tech.ada.games.jokenpo.service.TournamentPairing.Pairing;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@Timed(value = "jokenpo.service", percentiles = {0.5, 0.95, 0.99})
+@Slf4j
+public class TournamentService {
+
+    public static final String ROUND_EVENT = "tournament";
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int WIN_POINTS = 3;
+
+    private static final int DRAW_POINTS = 1;
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+    private final TournamentMatchRepository tournamentMatchRepository;
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+    private final GameService gameService;
+    private final RuleSetRegistry ruleSetRegistry;
+    private final TournamentPairing tournamentPairing;
+    private final GameEventPublisher gameEventPublisher;
+
+    @Value("${app.tournament.max-players:10000}")
+    private int maxPlayers;
+
+    public TournamentService(TournamentRepository tournamentRepository,
+                             TournamentPlayerRepository tournamentPlayerRepository,
+                             TournamentMatchRepository tournamentMatchRepository, GameRepository gameRepository,
+                             PlayerRepository playerRepository, GameService gameService,
+                             RuleSetRegistry ruleSetRegistry, TournamentPairing tournamentPairing,
+                             GameEventPublisher gameEventPublisher) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+        this.tournamentMatchRepository = tournamentMatchRepository;
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+        this.gameService = gameService;
+        this.ruleSetRegistry = ruleSetRegistry;
+        this.tournamentPairing = tournamentPairing;
+        this.gameEventPublisher = gameEventPublisher;
+    }
+
+    @Transactional(rollbackOn = Exception.class)
+    public Long createTournament(TournamentDto tournamentDto) throws BadRequestException, DataNotFoundException {
+        if (tournamentDto.getName() == null || tournamentDto.getName().isBlank())
+            throw new BadRequestException("O torneio precisa de um nome!");
+        if (tournamentDto.getFormat() == null)
+            throw new BadRequestException("Formato do torneio não informado!");
+        List<Long> playerIds = tournamentDto.getPlayers();
+        if (playerIds == null || playerIds.size() < 2)
+            throw new BadRequestException("O torneio possui menos que dois jogadores!");
+        if (playerIds.size() > maxPlayers)
+            throw new BadRequestException("O torneio pode ter no máximo " + maxPlayers + " jogadores!");
+        if (new HashSet<>(playerIds).size() != playerIds.size())
+            throw new BadRequestException("Jogador repetido no torneio!");
+        String ruleSet = ruleSetRegistry.forName(tournamentDto.getRuleSet()).getName();
+        int rounds = roundsOf(tournamentDto.getFormat(), playerIds.size(), tournamentDto.getRounds());
+        if (playerRepository.countByIdIn(playerIds) != playerIds.size())
+            throw new DataNotFoundException("O jogador não está cadastrado!");
+        Long creatorId = SecurityUtils.getCurrentPlayerId();
+        if (creatorId == null)
+            throw new DataNotFoundException("O jogador não está cadastrado!");
+
+        Tournament tournament = new Tournament();
+        tournament.setName(tournamentDto.getName());
+        tournament.setFormat(tournamentDto.getFormat());
+        tournament.setRuleSet(ruleSet);
+        tournament.setCreatorId(creatorId);
+        tournament.setCreatedAt(LocalDateTime.now());
+        tournament.setRounds(rounds);
+        tournament.setFinished(false);
+        tournamentRepository.save(tournament);
+        List<TournamentPlayer> players = new ArrayList<>(playerIds.size());
+        for (int i = 0; i < playerIds.size(); i++) {
+            TournamentPlayer player = new TournamentPlayer();
+            player.setTournament(tournament);
+            player.setPlayerId(playerIds.get(i));
+            player.setSeed(i + 1);
+            players.add(player);
+        }
+        tournamentPlayerRepository.saveAll(players);
+        Long tournamentId = tournament.getId();
+        startRound(tournament, players);
+        updateStandings(tournament, players);
+        log.info("Torneio {} criado com {} jogadores e {} rodadas", tournamentId, players.size(), rounds);
+        return tournamentId;
+    }
+
+    public List<Long> findTournamentsToAdvance() {
+        return tournamentMatchRepository.findTournamentIdsWithFinishedGames();
+    }
+
+    /**
+     * Registra os jogos finalizados da rodada atual e, quando todos terminaram, cria a próxima rodada ou encerra o
+     * torneio. Empates na eliminatória são jogados novamente.
+     */
+    @Transactional(rollbackOn = Exception.class)
+    public void advance(Long tournamentId) throws BadRequestException, DataNotFoundException {
+        Tournament tournament = tournamentRepository.findById(tournamentId).orElse(null);
+        if (tournament == null || tournament.getFinished())
+            return;
+        List<TournamentMatch> pending = tournamentMatchRepository.findByTournamentIdAndFinishedFalse(tournamentId);
+        if (pending.isEmpty())
+            return;
+        Map<Long, List<Long>> results = new HashMap<>();
+        for (Object[] row : gameRepository.findFinishedWinners(pending.stream().map(TournamentMatch::getGameId)
+                .toList())) {
+            List<Long> winners = results.computeIfAbsent((Long) row[0], id -> new ArrayList<>());
+            if (row[1] != null)
+                winners.add((Long) row[1]);
+        }
+        if (results.isEmpty())
+            return;
+        List<TournamentPlayer> players = tournamentPlayerRepository.findByTournamentIdOrderBySeed(tournamentId);
+        Map<Long, TournamentPlayer> byPlayer = players.stream()
+                .collect(Collectors.toMap(TournamentPlayer::getPlayerId, Function.identity()));
+        List<TournamentMatch> replays = new ArrayList<>();
+        for (TournamentMatch match : pending) {
+            List<Long> winners = results.get(match.getGameId());
+            if (winners == null)
+                continue;
+            if (winners.size() == 1) {
+                recordWin(tournament, match, winners.get(0), byPlayer);
+            } else if (tournament.getFormat() == TournamentFormat.SINGLE_ELIMINATION) {
+                replays.add(match);
+                continue;
+            } else {
+                recordDraw(match, byPlayer);
+            }
+            match.setFinished(true);
+        }
+        if (!replays.isEmpty())
+            replay(tournament, replays);
+        else if (pending.stream().allMatch(TournamentMatch::getFinished))
+            startRound(tournament, players);
+        updateStandings(tournament, players);
+    }
+
+    public TournamentViewDto findTournament(Long id) throws DataNotFoundException {
+        Tournament tournament = findById(id);
+        return new TournamentViewDto(tournament.getId(), tournament.getName(), tournament.getFormat(),
+                tournament.getRuleSet(), tournament.getCreatorId(), tournament.getCreatedAt(), tournament.getRound(),
+                tournament.getRounds(), tournamentPlayerRepository.countByTournamentId(id),
+                tournamentMatchRepository.countByTournamentIdAndFinishedFalse(id), tournament.getFinished(),
+                tournament.getWinnerId());
+    }
+
+    public List<TournamentStandingDto> findStandings(Long id, int page, int size) throws BadRequestException,
+            DataNotFoundException {
+        if (page < 0)
+            throw new BadRequestException("A página deve ser maior ou igual a zero!");
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new BadRequestException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE + "!");
+        findById(id);
+        List<TournamentPlayer> players = tournamentPlayerRepository.findByTournamentIdOrderByStandingAscSeedAsc(id,
+                PageRequest.of(page, size));
+        Map<Long, PlayerViewDto> views = playerRepository.findViewsByIdIn(players.stream()
+                        .map(TournamentPlayer::getPlayerId).toList()).stream()
+                .collect(Collectors.toMap(PlayerViewDto::getId, Function.identity()));
+        long rank = (long) page * size;
+        List<TournamentStandingDto> standings = new ArrayList<>(players.size());
+        for (TournamentPlayer player : players) {
+            standings.add(new TournamentStandingDto(++rank, views.get(player.getPlayerId()), player.getPoints(),
+                    player.getWins(), player.getDraws(), player.getLosses(),
+                    player.getBuchholz() == null ? 0 : player.getBuchholz(), player.isEliminated()));
+        }
+        return standings;
+    }
+
+    public List<TournamentMatchDto> findRound(Long id, int round) throws DataNotFoundException {
+        Tournament tournament = findById(id);
+        if (round < 1 || round > tournament.getRound())
+            throw new DataNotFoundException("A rodada não existe neste torneio!");
+        return tournamentMatchRepository.findByTournamentIdAndRoundOrderBySlot(id, round).stream()
+                .map(match -> new TournamentMatchDto(match.getSlot(), match.getGameId(), match.getPlayerOneId(),
+                        match.getPlayerTwoId(), match.getWinnerId(), match.getFinished()))
+                .toList();
+    }
+
+    private static int roundsOf(TournamentFormat format, int players, Integer requested) throws BadRequestException {
+        int roundRobin = players % 2 == 0 ? players - 1 : players;
+        int elimination = 32 - Integer.numberOfLeadingZeros(players - 1);
+        if (format == TournamentFormat.SINGLE_ELIMINATION)
+            return elimination;
+        if (format == TournamentFormat.ROUND_ROBIN)
+            return roundRobin;
+        if (requested == null)
+            return elimination;
+        if (requested < 1 || requested > roundRobin)
+            throw new BadRequestException("O número de rodadas deve estar entre 1 e " + roundRobin + "!");
+        return requested;
+    }
+
+    private void recordWin(Tournament tournament, TournamentMatch match, Long winnerId,
+                           Map<Long, TournamentPlayer> byPlayer) {
+        Long loserId = winnerId.equals(match.getPlayerOneId()) ? match.getPlayerTwoId() : match.getPlayerOneId();
+        TournamentPlayer winner = byPlayer.get(winnerId);
+        winner.setPoints(winner.getPoints() + WIN_POINTS);
+        winner.setWins(winner.getWins() + 1);
+        TournamentPlayer loser = byPlayer.get(loserId);
+        loser.setLosses(loser.getLosses() + 1);
+        if (tournament.getFormat() == TournamentFormat.SINGLE_ELIMINATION)
+            loser.setEliminated(true);
+        match.setWinnerId(winnerId);
+    }
+
+    private static void recordDraw(TournamentMatch match, Map<Long, TournamentPlayer> byPlayer) {
+        for (Long playerId : List.of(match.getPlayerOneId(), match.getPlayerTwoId())) {
+            TournamentPlayer player = byPlayer.get(playerId);
+            player.setPoints(player.getPoints() + DRAW_POINTS);
+            player.setDraws(player.getDraws() + 1);
+        }
+    }
+
+    private void replay(Tournament tournament, List<TournamentMatch> replays) throws BadRequestException,
+            DataNotFoundException {
+        List<List<Long>> groups = replays.stream()
+                .map(match -> List.of(match.getPlayerOneId(), match.getPlayerTwoId()))
+                .toList();
+        List<Long> gameIds = gameService.newTournamentGames(tournament.getCreatorId(), groups,
+                tournament.getRuleSet());
+        for (int i = 0; i < replays.size(); i++) {
+            replays.get(i).setGameId(gameIds.get(i));
+            gameEventPublisher.publish(ROUND_EVENT, new GameEventDto(gameIds.get(i), tournament.getRound(), null),
+                    groups.get(i));
+        }
+        log.info("{} jogos empatados da rodada {} do torneio {} criados novamente", gameIds.size(),
+                tournament.getRound(), tournament.getId());
+    }
+
+    private void startRound(Tournament tournament, List<TournamentPlayer> players) throws BadRequestException,
+            DataNotFoundException {
+        if (tournament.getRound() == tournament.getRounds()) {
+            finish(tournament, players);
+            return;
+        }
+        long start = System.nanoTime();
+        int round = tournament.getRound() + 1;
+        Pairing[] pairings = pairingsOf(tournament, round, players);
+        long pairedAt = System.nanoTime();
+
+        List<TournamentMatch> matches = new ArrayList<>(pairings.length);
+        List<List<Long>> groups = new ArrayList<>(pairings.length);
+        for (int slot = 0; slot < pairings.length; slot++) {
+            Pairing pairing = pairings[slot];
+            TournamentPlayer playerOne = players.get(pairing.getPlayerOne());
+            TournamentMatch match = new TournamentMatch();
+            match.setRound(round);
+            match.setSlot(slot);
+            match.setPlayerOneId(playerOne.getPlayerId());
+            match.setFinished(pairing.isBye());
+            if (pairing.isBye()) {
+                // no todos contra todos a folga não pontua; na eliminatória o jogador avança direto
+                if (tournament.getFormat() == TournamentFormat.SWISS) {
+                    playerOne.setPoints(playerOne.getPoints() + WIN_POINTS);
+                    playerOne.setBye(true);
+                }
+                if (tournament.getFormat() != TournamentFormat.ROUND_ROBIN)
+                    match.setWinnerId(playerOne.getPlayerId());
+            } else {
+                match.setPlayerTwoId(players.get(pairing.getPlayerTwo()).getPlayerId());
+                groups.add(List.of(match.getPlayerOneId(), match.getPlayerTwoId()));
+            }
+            matches.add(match);
+        }
+        tournament.setRound(round);
+        List<Long> gameIds = gameService.newTournamentGames(tournament.getCreatorId(), groups,
+                tournament.getRuleSet());
+        int game = 0;
+        for (TournamentMatch match : matches) {
+            match.setTournament(tournament);
+            if (match.getPlayerTwoId() != null)
+                match.setGameId(gameIds.get(game++));
+        }
+        tournamentMatchRepository.saveAll(matches);
+        for (int i = 0; i < gameIds.size(); i++) {
+            gameEventPublisher.publish(ROUND_EVENT, new GameEventDto(gameIds.get(i), round, null), groups.get(i));
+        }
+        log.info("Rodada {} do torneio {} criada com {} jogos: pareamento em {} ms, total em {} ms", round,
+                tournament.getId(), gameIds.size(), (pairedAt - start) / 1_000_000, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Pairing[] pairingsOf(Tournament tournament, int round, List<TournamentPlayer> players) {
+        switch (tournament.getFormat()) {
+            case ROUND_ROBIN:
+                return tournamentPairing.roundRobin(players.size(), round);
+            case SWISS:
+                int[] points = pointsOf(players);
+                int[][] opponents = opponentsOf(tournament.getId(), players);
+                boolean[] hadBye = new boolean[players.size()];
+                for (int i = 0; i < hadBye.length; i++) {
+                    hadBye[i] = players.get(i).isBye();
+                }
+                int[] order = tournamentPairing.rank(points, tournamentPairing.buchholz(points, opponents));
+                return tournamentPairing.swiss(order, points, hadBye, opponents);
+            default:
+                if (round == 1)
+                    return tournamentPairing.elimination(players.size());
+                // vencedores das partidas vizinhas da rodada anterior se enfrentam, mantendo a chave
+                List<TournamentMatch> previous = tournamentMatchRepository
+                        .findByTournamentIdAndRoundOrderBySlot(tournament.getId(), round - 1);
+                Map<Long, Integer> indexOf = indexOf(players);
+                Pairing[] pairings = new Pairing[previous.size() / 2];
+                for (int k = 0; k < pairings.length; k++) {
+                    pairings[k] = new Pairing(indexOf.get(previous.get(2 * k).getWinnerId()),
+                            indexOf.get(previous.get(2 * k + 1).getWinnerId()));
+                }
+                return pairings;
+        }
+    }
+
+    private void finish(Tournament tournament, List<TournamentPlayer> players) {
+        Long winnerId;
+        if (tournament.getFormat() == TournamentFormat.SINGLE_ELIMINATION) {
+            winnerId = tournamentMatchRepository
+                    .findByTournamentIdAndRoundOrderBySlot(tournament.getId(), tournament.getRound())
+                    .get(0).getWinnerId();
+        } else {
+            int[] points = pointsOf(players);
+            int[] order = tournamentPairing.rank(points,
+                    tournamentPairing.buchholz(points, opponentsOf(tournament.getId(), players)));
+            winnerId = players.get(order[0]).getPlayerId();
+        }
+        tournament.setWinnerId(winnerId);
+        tournament.setFinished(true);
+        log.info("Torneio {} finalizado", tournament.getId());
+    }
+
+    /**
+     * Grava o desempate e a posição de cada jogador para que a classificação seja paginada direto do banco, sem
+     * carregar todos os pareamentos do torneio a cada consulta.
+     */
+    private void updateStandings(Tournament tournament, List<TournamentPlayer> players) {
+        int[] points = pointsOf(players);
+        long[] buchholz = tournamentPairing.buchholz(points, opponentsOf(tournament.getId(), players));
+        int[] order = tournamentPairing.rank(points, buchholz);
+        for (int i = 0; i < order.length; i++) {
+            TournamentPlayer player = players.get(order[i]);
+            player.setBuchholz(buchholz[order[i]]);
+            player.setStanding(i + 1);
+        }
+    }
+
+    private int[][] opponentsOf(Long tournamentId, List<TournamentPlayer> players) {
+        Map<Long, Integer> indexOf = indexOf(players);
+        List<Object[]> pairings = tournamentMatchRepository.findPairings(tournamentId);
+        int[] counts = new int[players.size()];
+        for (Object[] row : pairings) {
+            counts[indexOf.get((Long) row[0])]++;
+            counts[indexOf.get((Long) row[1])]++;
+        }
+        int[][] opponents = new int[players.size()][];
+        for (int i = 0; i < opponents.length; i++) {
+            opponents[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (Object[] row : pairings) {
+            int one = indexOf.get((Long) row[0]);
+            int two = indexOf.get((Long) row[1]);
+            opponents[one][counts[one]++] = two;
+            opponents[two][counts[two]++] = one;
+        }
+        return opponents;
+    }
+
+    private static int[] pointsOf(List<TournamentPlayer> players) {
+        return players.stream().mapToInt(TournamentPlayer::getPoints).toArray();
+    }
+
+    private static Map<Long, Integer> indexOf(List<TournamentPlayer> players) {
+        Map<Long, Integer> indexOf = new HashMap<>(players.size() * 2);
+        for (int i = 0; i < players.size(); i++) {
+            indexOf.put(players.get(i).getPlayerId(), i);
+        }
+        return indexOf;
+    }
+
+    private Tournament findById(Long id) throws DataNotFoundException {
+        return tournamentRepository.findById(id)
+                .orElseThrow(() -> new DataNotFoundException("O torneio não está cadastrado!"));
+    }
+
+}
@@ -0,0 +1,64 @@
+package tech.ada.games.jokenpo.simulator;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EndpointStats {
+
+    private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(5);
+
+    private final String name;
+
+    private final Recorder latencies = new Recorder(MAX_LATENCY, 3);
+
+    private final LongAdder requests = new LongAdder();
+
+    private final Map<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+
+    private final Histogram total = new Histogram(MAX_LATENCY, 3);
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.min(Math.max(latencyNanos, 1), MAX_LATENCY));
+        requests.increment();
+        if (status < 200 || status >= 300)
+            errors.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    void reset() {
+        latencies.reset();
+        requests.reset();
+        errors.clear();
+    }
+
+    String report(double seconds) {
+        total.add(latencies.getIntervalHistogram());
+        long count = requests.sum();
+        long failed = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        Map<Integer, Long> byStatus = new TreeMap<>();
+        errors.forEach((status, adder) -> byStatus.put(status, adder.sum()));
+        return String.format("%-18s %9d %9.1f %8.2f%% %9.2f %9.2f %9.2f %9.2f %s", name, count, count / seconds,
+                count == 0 ? 0.0 : 100.0 * failed / count, millis(total.getValueAtPercentile(50)),
+                millis(total.getValueAtPercentile(99)), millis(total.getValueAtPercentile(99.9)),
+                millis(total.getMaxValue()), byStatus.isEmpty() ? "" : byStatus);
+    }
+
+    static String header() {
+        return String.format("%-18s %9s %9s %9s %9s %9s %9s %9s %s", "endpoint", "req", "req/s", "erros",
+                "p50 ms", "p99 ms", "p999 ms", "max ms", "erros por status");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,270 @@
+package tech.ada.games.jokenpo.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tech.ada.games.jokenpo.JokenpoApplication;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sobe a aplicação com H2 em memória e gera carga de jogos em malha aberta: um jogo novo é iniciado a cada
+ * 1/rate segundos, independente das respostas anteriores. As latências são medidas a partir do instante em que
+ * a requisição deveria ter sido enviada, então a fila do cliente entra na conta quando o servidor não acompanha.
+ */
+public final class LoadSimulator {
+
+    private static final String PASSWORD = "simulador";
+
+    private final SimulatorOptions options;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final EndpointStats newGameStats = new EndpointStats("newGame");
+
+    private final EndpointStats moveStats = new EndpointStats("insertPlayerMove");
+
+    private final LongAdder finishedGames = new LongAdder();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final int[] sizes;
+
+    private String baseUrl;
+
+    private List<Long> playerIds;
+
+    private List<String> tokens;
+
+    private List<Long> moveIds;
+
+    private ExecutorService executor;
+
+    private LoadSimulator(SimulatorOptions options) {
+        this.options = options;
+        List<Integer> weighted = new ArrayList<>();
+        options.mix.forEach((size, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(size);
+            }
+        });
+        this.sizes = weighted.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimulatorOptions options = SimulatorOptions.parse(args);
+        List<String> applicationArgs = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:simulator;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.h2.console.enabled=false",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        applicationArgs.addAll(options.applicationArgs);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JokenpoApplication.class)
+                .run(applicationArgs.toArray(String[]::new))) {
+            LoadSimulator simulator = new LoadSimulator(options);
+            simulator.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/jokenpo";
+            simulator.run();
+        }
+    }
+
+    private void run() throws Exception {
+        System.out.println("Simulação: " + options);
+        executor = Executors.newFixedThreadPool(options.threads);
+        try {
+            setup();
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            SplittableRandom random = new SplittableRandom(options.seed);
+            long period = Math.max((long) (TimeUnit.SECONDS.toNanos(1) / options.rate), 1);
+            scheduler.scheduleAtFixedRate(() -> {
+                long intended = System.nanoTime();
+                SplittableRandom gameRandom = random.split();
+                dispatch(() -> playGame(intended, gameRandom));
+            }, 0, period, TimeUnit.NANOSECONDS);
+
+            if (options.warmupSeconds > 0) {
+                TimeUnit.SECONDS.sleep(options.warmupSeconds);
+                newGameStats.reset();
+                moveStats.reset();
+                finishedGames.reset();
+            }
+            long start = System.nanoTime();
+            TimeUnit.SECONDS.sleep(options.durationSeconds);
+            scheduler.shutdownNow();
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+            long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+            while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(50);
+            }
+            if (inFlight.get() > 0)
+                System.out.println(inFlight.get() + " requisições ainda em andamento foram descartadas");
+            double seconds = (System.nanoTime() - start) / 1e9;
+            report(seconds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void setup() throws Exception {
+        List<Future<String>> logins = new ArrayList<>(options.players);
+        for (int i = 0; i < options.players; i++) {
+            String username = "sim" + i;
+            String name = "Simulado " + i;
+            logins.add(executor.submit(() -> {
+                expect(201, post("/player/create", Map.of("username", username, "password", PASSWORD, "name", name),
+                        null));
+                HttpResponse<String> login = post("/login", Map.of("username", username, "password", PASSWORD),
+                        null);
+                expect(200, login);
+                return objectMapper.readTree(login.body()).get("accessToken").asText();
+            }));
+        }
+        tokens = new ArrayList<>(options.players);
+        for (Future<String> login : logins) {
+            tokens.add(login.get());
+        }
+
+        Map<String, Long> idsByUsername = new HashMap<>();
+        for (JsonNode player : objectMapper.readTree(expect(200, get("/player", tokens.get(0))).body())) {
+            idsByUsername.put(player.get("username").asText(), player.get("id").asLong());
+        }
+        playerIds = new ArrayList<>(options.players);
+        for (int i = 0; i < options.players; i++) {
+            playerIds.add(idsByUsername.get("sim" + i));
+        }
+
+        // os jogos do simulador usam as regras padrão, então só as jogadas delas são cadastradas e sorteadas
+        Set<String> labels = new LinkedHashSet<>();
+        for (JsonNode ruleSet : objectMapper.readTree(expect(200, get("/move/rulesets", tokens.get(0))).body())) {
+            if (ruleSet.get("defaultRuleSet").asBoolean())
+                ruleSet.get("moves").forEach(move -> labels.add(move.asText()));
+        }
+        for (String label : labels) {
+            HttpResponse<String> response = post("/move", Map.of("move", label), tokens.get(0));
+            if (response.statusCode() != 201 && response.statusCode() != 409)
+                expect(201, response);
+        }
+        moveIds = new ArrayList<>();
+        for (JsonNode move : objectMapper.readTree(expect(200, get("/move", tokens.get(0))).body())) {
+            if (labels.contains(move.get("move").asText()))
+                moveIds.add(move.get("id").asLong());
+        }
+        System.out.println(options.players + " jogadores registrados e logados, " + moveIds.size() + " jogadas");
+    }
+
+    private void playGame(long intended, SplittableRandom random) {
+        int size = sizes[random.nextInt(sizes.length)];
+        int[] players = random.ints(0, options.players).distinct().limit(size).toArray();
+        List<Long> gamePlayers = new ArrayList<>(size);
+        for (int player : players) {
+            gamePlayers.add(playerIds.get(player));
+        }
+        HttpResponse<String> created = timed(newGameStats, intended,
+                () -> post("/game/new", Map.of("players", gamePlayers), tokens.get(players[0])));
+        if (created == null || created.statusCode() != 201)
+            return;
+        String location = created.headers().firstValue("Location").orElseThrow();
+        long gameId = Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+        for (int player : players) {
+            long moveId = moveIds.get(random.nextInt(moveIds.size()));
+            long moveIntended = System.nanoTime();
+            dispatch(() -> {
+                HttpResponse<String> response = timed(moveStats, moveIntended, () -> post("/game/move",
+                        Map.of("gameId", gameId, "moveId", moveId), tokens.get(player)));
+                if (response != null && response.statusCode() / 100 == 2 && !response.body().contains("Faltam"))
+                    finishedGames.increment();
+            });
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        inFlight.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private HttpResponse<String> timed(EndpointStats stats, long intended, Request request) {
+        HttpResponse<String> response = null;
+        try {
+            response = request.send();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException)
+                Thread.currentThread().interrupt();
+        }
+        stats.record(System.nanoTime() - intended, response == null ? 0 : response.statusCode());
+        return response;
+    }
+
+    private void report(double seconds) {
+        System.out.println();
+        System.out.printf("Janela medida: %.1fs, %d jogos finalizados (%.1f jogos/s)%n", seconds,
+                finishedGames.sum(), finishedGames.sum() / seconds);
+        System.out.println(EndpointStats.header());
+        System.out.println(newGameStats.report(seconds));
+        System.out.println(moveStats.report(seconds));
+        System.out.println("Status 0 indica falha de conexão ou timeout no cliente");
+    }
+
+    private HttpResponse<String> post(String path, Object body, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null)
+            request.header("Authorization", "Bearer " + token);
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path, String token) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> expect(int status, HttpResponse<String> response) {
+        if (response.statusCode() != status)
+            throw new IllegalStateException(response.request().uri() + " respondeu " + response.statusCode() + ": "
+                    + response.body());
+        return response;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+
+        HttpResponse<String> send() throws Exception;
+
+    }
+
+}
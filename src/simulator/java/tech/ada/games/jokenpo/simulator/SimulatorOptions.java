@@ -0,0 +1,75 @@
+package tech.ada.games.jokenpo.simulator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SimulatorOptions {
+
+    int players = 100;
+
+    double rate = 50;
+
+    int durationSeconds = 30;
+
+    int warmupSeconds = 5;
+
+    int threads = 64;
+
+    long seed = 42;
+
+    // Tamanho do jogo -> peso relativo, por exemplo 2:80,3:15,5:5
+    Map<Integer, Integer> mix = new LinkedHashMap<>(Map.of(2, 1));
+
+    // Opções desconhecidas são repassadas para a aplicação, por exemplo --app.async-resolution.enabled=true
+    List<String> applicationArgs = new ArrayList<>();
+
+    static SimulatorOptions parse(String... args) {
+        SimulatorOptions options = new SimulatorOptions();
+        for (String arg : args) {
+            if (arg.isBlank())
+                continue;
+            if (!arg.startsWith("--") || !arg.contains("="))
+                throw new IllegalArgumentException("Opção inválida: " + arg);
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "players" -> options.players = Integer.parseInt(value);
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "duration" -> options.durationSeconds = Integer.parseInt(value);
+                case "warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                case "threads" -> options.threads = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "mix" -> options.mix = parseMix(value);
+                default -> options.applicationArgs.add(arg);
+            }
+        }
+        int largest = options.mix.keySet().stream().mapToInt(Integer::intValue).max().orElse(2);
+        if (options.players < largest)
+            throw new IllegalArgumentException("São necessários pelo menos " + largest + " jogadores");
+        if (options.rate <= 0 || options.durationSeconds <= 0 || options.warmupSeconds < 0 || options.threads < 1)
+            throw new IllegalArgumentException("rate, duration e threads devem ser positivos");
+        return options;
+    }
+
+    private static Map<Integer, Integer> parseMix(String value) {
+        Map<Integer, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            int size = Integer.parseInt(parts[0].trim());
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (size < 2 || weight < 1)
+                throw new IllegalArgumentException("Mistura inválida: " + entry);
+            mix.put(size, weight);
+        }
+        return mix;
+    }
+
+    @Override
+    public String toString() {
+        return "jogadores=" + players + ", jogos/s=" + rate + ", duração=" + durationSeconds + "s, aquecimento="
+                + warmupSeconds + "s, threads=" + threads + ", mistura=" + mix + ", semente=" + seed;
+    }
+
+}
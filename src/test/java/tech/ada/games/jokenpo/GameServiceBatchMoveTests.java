@@ -0,0 +1,74 @@
+package tech.ada.games.jokenpo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tech.ada.games.jokenpo.dto.BulkMoveDto;
+import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.MoveResultDto;
+import tech.ada.games.jokenpo.repository.GameRepository;
+import tech.ada.games.jokenpo.service.GameService;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServiceBatchMoveTests extends ServiceTestSupport {
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Test
+	void everyItemGetsItsOwnStatus() throws Exception {
+		Long pedra = createMove("Pedra");
+		Long papel = createMove("Papel");
+		Long tesoura = createMove("Tesoura");
+		Long fogo = createMove("Fogo");
+		Long ana = createPlayer("ana");
+		Long bia = createPlayer("bia");
+		Long caio = createPlayer("caio");
+
+		authenticate(ana);
+		Long game = gameService.newGame(new GameDto(List.of(ana, bia)));
+		Long other = gameService.newGame(new GameDto(List.of(ana, bia)));
+		authenticate(bia);
+		Long foreign = gameService.newGame(new GameDto(List.of(bia, caio)));
+
+		authenticate(ana);
+		List<MoveResultDto> results = gameService.insertPlayerMoves(new BulkMoveDto(Arrays.asList(
+				new GameMoveDto(game, pedra),
+				new GameMoveDto(game, papel),
+				new GameMoveDto(foreign, pedra),
+				new GameMoveDto(Long.MAX_VALUE, pedra),
+				null,
+				new GameMoveDto(other, fogo),
+				new GameMoveDto(other, Long.MAX_VALUE))));
+
+		assertEquals(List.of(200, 409, 404, 404, 400, 400, 404), results.stream().map(MoveResultDto::getStatus).toList());
+		assertTrue(results.get(0).getResult().getMessage().startsWith("Jogada realizada! Faltam 1"));
+		assertEquals(game, results.get(0).getGameId());
+		assertEquals(pedra, results.get(0).getMoveId());
+		assertNull(results.get(0).getError());
+		for (MoveResultDto failed : results.subList(1, results.size())) {
+			assertNull(failed.getResult());
+			assertFalse(failed.getError().isBlank());
+		}
+
+		// a jogada aceita é mantida mesmo com as falhas das outras do lote
+		authenticate(bia);
+		List<MoveResultDto> completion = gameService.insertPlayerMoves(new BulkMoveDto(List.of(
+				new GameMoveDto(game, tesoura))));
+		assertEquals(200, completion.get(0).getStatus());
+		assertEquals(List.of(ana), completion.get(0).getResult().getWinners());
+		assertTrue(gameRepository.findById(game).orElseThrow().getFinished());
+		assertFalse(gameRepository.findById(other).orElseThrow().getFinished());
+	}
+
+}
@@ -0,0 +1,69 @@
+package tech.ada.games.jokenpo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tech.ada.games.jokenpo.dto.BulkGameDto;
+import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.dto.GameViewDto;
+import tech.ada.games.jokenpo.dto.PlayerMoveViewDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.service.GameService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServiceBulkCreateTests extends ServiceTestSupport {
+
+	@Autowired
+	private GameService gameService;
+
+	@Test
+	void gamesAreCreatedInTheRequestedOrder() throws Exception {
+		Long ana = createPlayer("ana");
+		Long bia = createPlayer("bia");
+		Long caio = createPlayer("caio");
+		authenticate(ana);
+		List<GameDto> games = new ArrayList<>();
+		// mais jogos que um lote de inserções
+		for (int i = 0; i < 1_200; i++) {
+			games.add(new GameDto(i % 2 == 0 ? List.of(ana, bia) : List.of(ana, bia, caio)));
+		}
+
+		List<Long> gameIds = gameService.newGames(new BulkGameDto(games));
+
+		assertEquals(games.size(), gameIds.size());
+		for (int i = 1; i < gameIds.size(); i++) {
+			assertTrue(gameIds.get(i) > gameIds.get(i - 1));
+		}
+		List<GameViewDto> views = gameService.findGameViews(List.of(gameIds.get(0), gameIds.get(1)));
+		assertEquals(List.of(ana, bia), playerIds(views, gameIds.get(0)));
+		assertEquals(List.of(ana, bia, caio), playerIds(views, gameIds.get(1)));
+	}
+
+	@Test
+	void oneInvalidGameRejectsTheWholeBatch() throws Exception {
+		Long ana = createPlayer("ana");
+		Long bia = createPlayer("bia");
+		authenticate(ana);
+
+		assertThrows(BadRequestException.class, () -> gameService.newGames(new BulkGameDto(List.of(
+				new GameDto(List.of(ana, bia)), new GameDto(List.of(ana))))));
+		assertThrows(DataNotFoundException.class, () -> gameService.newGames(new BulkGameDto(List.of(
+				new GameDto(List.of(ana, bia)), new GameDto(List.of(ana, -1L))))));
+		assertThrows(BadRequestException.class, () -> gameService.newGames(new BulkGameDto(List.of())));
+
+		assertTrue(gameService.findGames(null, 10, null, ana).getGames().isEmpty());
+	}
+
+	private static List<Long> playerIds(List<GameViewDto> views, Long gameId) {
+		return views.stream().filter(game -> game.getId().equals(gameId)).findFirst().orElseThrow().getPlayers()
+				.stream().map(PlayerMoveViewDto::getPlayer).map(PlayerViewDto::getId).sorted().toList();
+	}
+
+}
@@ -0,0 +1,107 @@
+package tech.ada.games.jokenpo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tech.ada.games.jokenpo.dto.BulkGameDto;
+import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.ResultDto;
+import tech.ada.games.jokenpo.repository.GameRepository;
+import tech.ada.games.jokenpo.service.GameService;
+import tech.ada.games.jokenpo.service.PendingMovesTracker;
+import tech.ada.games.jokenpo.service.RuleSetRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServiceConcurrencyTests extends ServiceTestSupport {
+
+	private static final int GAMES = 500;
+	private static final int PLAYERS_PER_GAME = 4;
+	private static final int THREADS = 32;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private PendingMovesTracker pendingMovesTracker;
+
+	@Autowired
+	private RuleSetRegistry ruleSetRegistry;
+
+	@Test
+	void everyGameFinishesExactlyOnceUnderConcurrentMoves() throws Exception {
+		List<Long> moveIds = new ArrayList<>();
+		for (String label : ruleSetRegistry.getDefaultRuleSet().getMoves()) {
+			moveIds.add(createMove(label));
+		}
+		List<UsernamePasswordAuthenticationToken> authentications = new ArrayList<>();
+		List<Long> playerIds = new ArrayList<>();
+		for (int i = 0; i < PLAYERS_PER_GAME; i++) {
+			Long playerId = createPlayer("Jogador " + i);
+			playerIds.add(playerId);
+			authentications.add(authenticationOf(playerId));
+		}
+		// os demais testes do contexto compartilhado podem deixar jogos abertos
+		int openGames = pendingMovesTracker.openGames();
+		List<GameDto> games = new ArrayList<>();
+		for (int i = 0; i < GAMES; i++) {
+			games.add(new GameDto(playerIds));
+		}
+		SecurityContextHolder.getContext().setAuthentication(authentications.get(0));
+		List<Long> gameIds = gameService.newGames(new BulkGameDto(games));
+		SecurityContextHolder.clearContext();
+
+		Map<Long, AtomicInteger> completions = new ConcurrentHashMap<>();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<ResultDto>> futures = new ArrayList<>();
+		Random random = new Random(42);
+		for (Long gameId : gameIds) {
+			for (int p = 0; p < PLAYERS_PER_GAME; p++) {
+				UsernamePasswordAuthenticationToken authentication = authentications.get(p);
+				Long moveId = moveIds.get(random.nextInt(moveIds.size()));
+				futures.add(executor.submit(() -> {
+					start.await();
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+					try {
+						ResultDto result = gameService.insertPlayerMove(new GameMoveDto(gameId, moveId));
+						if (!result.getMessage().startsWith("Jogada realizada!"))
+							completions.computeIfAbsent(gameId, id -> new AtomicInteger()).incrementAndGet();
+						return result;
+					} finally {
+						SecurityContextHolder.clearContext();
+					}
+				}));
+			}
+		}
+		start.countDown();
+		for (Future<ResultDto> future : futures) {
+			future.get(2, TimeUnit.MINUTES);
+		}
+		executor.shutdown();
+
+		assertEquals(GAMES, completions.size());
+		assertTrue(completions.values().stream().allMatch(count -> count.get() == 1));
+		assertTrue(gameRepository.findAllById(gameIds).stream().allMatch(game -> game.getFinished()));
+		assertEquals(openGames, pendingMovesTracker.openGames());
+	}
+
+}
@@ -0,0 +1,101 @@
+package tech.ada.games.jokenpo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.GameViewDto;
+import tech.ada.games.jokenpo.dto.PlayerMoveViewDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.dto.ResultDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.service.GameService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServiceMatchTests extends ServiceTestSupport {
+
+	@Autowired
+	private GameService gameService;
+
+	@Test
+	void matchIsDecidedByTheMajorityOfRounds() throws Exception {
+		Long pedra = createMove("Pedra");
+		Long tesoura = createMove("Tesoura");
+		Long ana = createPlayer("ana");
+		Long bia = createPlayer("bia");
+
+		authenticate(ana);
+		GameDto gameDto = new GameDto(List.of(ana, bia));
+		gameDto.setBestOf(3);
+		Long game = gameService.newGame(gameDto);
+		assertEquals(Map.of(ana, 0, bia, 0), scores(gameService.findGameById(game)));
+
+		// rodada 1: o vencedor soma um ponto e as jogadas são limpas
+		play(ana, game, pedra);
+		ResultDto first = play(bia, game, tesoura);
+		assertEquals(1, first.getRound());
+		assertEquals(List.of(ana), first.getWinners());
+		assertEquals(pedra, first.getMoveId());
+		assertEquals("Rodada 1 encerrada! Placar: ana 1 x bia 0. Próxima rodada: 2", first.getMessage());
+		GameViewDto afterFirst = gameService.findGameById(game);
+		assertFalse(afterFirst.getFinished());
+		assertEquals(2, afterFirst.getRound());
+		assertEquals(Map.of(ana, 1, bia, 0), scores(afterFirst));
+		assertTrue(afterFirst.getPlayers().stream().allMatch(pm -> pm.getMove() == null));
+
+		// rodada 2: o empate não pontua e passa para a rodada seguinte
+		play(ana, game, pedra);
+		ResultDto draw = play(bia, game, pedra);
+		assertEquals(2, draw.getRound());
+		assertNull(draw.getWinners());
+		assertNull(draw.getMoveId());
+		assertTrue(draw.getMessage().startsWith("Rodada 2 empatada!"));
+		GameViewDto afterDraw = gameService.findGameById(game);
+		assertEquals(3, afterDraw.getRound());
+		assertEquals(Map.of(ana, 1, bia, 0), scores(afterDraw));
+
+		// rodada 3: a segunda vitória é a maioria de três e encerra a partida
+		play(bia, game, tesoura);
+		ResultDto last = play(ana, game, pedra);
+		assertEquals(3, last.getRound());
+		assertEquals(List.of(ana), last.getWinners());
+		GameViewDto finished = gameService.findGameById(game);
+		assertTrue(finished.getFinished());
+		assertEquals(3, finished.getBestOf());
+		assertEquals(3, finished.getRound());
+		assertEquals(Map.of(ana, 2, bia, 0), scores(finished));
+		assertEquals(List.of(ana), finished.getWinners().stream().map(PlayerViewDto::getId).toList());
+	}
+
+	@Test
+	void bestOfMustBeAnOddNumberOfRounds() {
+		Long carla = createPlayer("carla");
+		Long davi = createPlayer("davi");
+		authenticate(carla);
+		for (int bestOf : new int[]{0, 2, 11}) {
+			GameDto gameDto = new GameDto(List.of(carla, davi));
+			gameDto.setBestOf(bestOf);
+			assertThrows(BadRequestException.class, () -> gameService.newGame(gameDto));
+		}
+	}
+
+	private ResultDto play(Long playerId, Long game, Long move) throws Exception {
+		authenticate(playerId);
+		return gameService.insertPlayerMove(new GameMoveDto(game, move));
+	}
+
+	private static Map<Long, Integer> scores(GameViewDto game) {
+		return game.getPlayers().stream()
+				.collect(Collectors.toMap(pm -> pm.getPlayer().getId(), PlayerMoveViewDto::getScore));
+	}
+
+}
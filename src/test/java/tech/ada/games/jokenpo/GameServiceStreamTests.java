@@ -0,0 +1,85 @@
+package tech.ada.games.jokenpo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.ada.games.jokenpo.dto.GamePageDto;
+import tech.ada.games.jokenpo.dto.GameViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.service.GameService;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServiceStreamTests extends ServiceTestSupport {
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void pagesFollowTheIdCursor() throws Exception {
+		Long ana = createPlayer("ana");
+		Long bia = createPlayer("bia");
+		List<Long> gameIds = gameService.newTournamentGames(ana, Collections.nCopies(5, List.of(ana, bia)),
+				"classico");
+
+		GamePageDto first = gameService.findGames(null, 2, null, ana);
+		assertEquals(gameIds.subList(0, 2), ids(first));
+		assertEquals(gameIds.get(1), first.getNextCursor());
+		GamePageDto second = gameService.findGames(first.getNextCursor(), 2, null, ana);
+		assertEquals(gameIds.subList(2, 4), ids(second));
+		GamePageDto last = gameService.findGames(second.getNextCursor(), 2, null, ana);
+		assertEquals(gameIds.subList(4, 5), ids(last));
+		assertNull(last.getNextCursor());
+
+		assertTrue(gameService.findGames(null, 2, true, ana).getGames().isEmpty());
+		assertThrows(BadRequestException.class, () -> gameService.findGames(null, 0, null, ana));
+	}
+
+	@Test
+	void streamReadsEveryChunkWithoutHoldingATransaction() throws Exception {
+		createMove("Pedra");
+		createMove("Tesoura");
+		createMove("Papel");
+		Long ana = createPlayer("ana");
+		Long bia = createPlayer("bia");
+		// mais de um bloco de 500 jogos
+		List<Long> gameIds = gameService.newTournamentGames(ana, Collections.nCopies(1_001, List.of(ana, bia)),
+				"classico");
+
+		List<Boolean> transactionOnWrite = new ArrayList<>();
+		ByteArrayOutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void flush() {
+				transactionOnWrite.add(TransactionSynchronizationManager.isActualTransactionActive());
+			}
+		};
+		gameService.streamGames(null, ana, out);
+
+		List<Long> streamed = new ArrayList<>();
+		for (String line : out.toString().split("\n")) {
+			streamed.add(objectMapper.readTree(line).get("id").asLong());
+		}
+		assertEquals(gameIds, streamed);
+		// a resposta é escrita fora de transação, bloco a bloco
+		assertEquals(3, transactionOnWrite.size());
+		assertFalse(transactionOnWrite.contains(true));
+	}
+
+	private static List<Long> ids(GamePageDto page) {
+		return page.getGames().stream().map(GameViewDto::getId).toList();
+	}
+
+}
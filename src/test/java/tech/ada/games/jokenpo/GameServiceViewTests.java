@@ -0,0 +1,78 @@
+package tech.ada.games.jokenpo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tech.ada.games.jokenpo.dto.GameDto;
+import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.GameViewDto;
+import tech.ada.games.jokenpo.dto.PlayerMoveViewDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.model.Player;
+import tech.ada.games.jokenpo.model.Role;
+import tech.ada.games.jokenpo.service.GameService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServiceViewTests extends ServiceTestSupport {
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void gameViewCarriesCreatorMovesAndWinners() throws Exception {
+		Long pedra = createMove("Pedra");
+		Long tesoura = createMove("Tesoura");
+		Long ana = createPlayer("ana");
+		Long bia = createPlayer("bia");
+		authenticate(ana);
+		Long game = gameService.newGame(new GameDto(List.of(ana, bia)));
+		gameService.insertPlayerMove(new GameMoveDto(game, pedra));
+
+		GameViewDto open = gameService.findGameById(game);
+		assertEquals(ana, open.getCreator().getId());
+		assertEquals("ana", open.getCreator().getName());
+		assertFalse(open.getFinished());
+		PlayerMoveViewDto anaMove = moveOf(open, ana);
+		assertEquals("Pedra", anaMove.getMove().getMove());
+		assertNull(moveOf(open, bia).getMove());
+		assertTrue(open.getWinners().isEmpty());
+
+		authenticate(bia);
+		gameService.insertPlayerMove(new GameMoveDto(game, tesoura));
+		GameViewDto finished = gameService.findGameById(game);
+		assertTrue(finished.getFinished());
+		assertEquals(List.of(ana), finished.getWinners().stream().map(PlayerViewDto::getId).toList());
+
+		// o JSON mantém o formato das entidades: sem o id do jogo em cada jogada
+		JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(finished));
+		assertEquals(game, json.get("id").asLong());
+		assertFalse(json.get("players").get(0).has("gameId"));
+		assertTrue(json.get("players").get(0).get("player").has("username"));
+	}
+
+	@Test
+	void rolesAreLoadedWithThePlayerOutsideATransaction() throws Exception {
+		Long ana = createPlayer("ana");
+		String username = playerRepository.findById(ana).orElseThrow().getUsername();
+
+		Player player = playerRepository.findByUsername(username).orElseThrow();
+
+		assertEquals(List.of("ROLE_USER"), player.getRoles().stream().map(Role::getName).toList());
+	}
+
+	private static PlayerMoveViewDto moveOf(GameViewDto game, Long playerId) {
+		return game.getPlayers().stream().filter(pm -> pm.getPlayer().getId().equals(playerId)).findFirst()
+				.orElseThrow();
+	}
+
+}
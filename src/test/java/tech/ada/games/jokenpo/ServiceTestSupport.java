@@ -0,0 +1,82 @@
+package tech.ada.games.jokenpo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import tech.ada.games.jokenpo.dto.MoveDto;
+import tech.ada.games.jokenpo.model.Player;
+import tech.ada.games.jokenpo.model.Role;
+import tech.ada.games.jokenpo.repository.MoveRepository;
+import tech.ada.games.jokenpo.repository.PlayerRepository;
+import tech.ada.games.jokenpo.repository.RoleRepository;
+import tech.ada.games.jokenpo.service.MoveService;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contexto compartilhado pelos testes de serviço: todas as classes usam o mesmo banco em memória, então o Spring
+ * sobe a aplicação uma única vez. Jogadores recebem usernames únicos para que os testes não colidam.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:jokenpo-tests;DB_CLOSE_DELAY=-1",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.datasource.hikari.maximum-pool-size=16",
+		"logging.level.tech.ada.games.jokenpo=WARN"
+})
+public abstract class ServiceTestSupport {
+
+	private static final AtomicInteger PLAYERS = new AtomicInteger();
+
+	@Autowired
+	protected MoveService moveService;
+
+	@Autowired
+	protected MoveRepository moveRepository;
+
+	@Autowired
+	protected PlayerRepository playerRepository;
+
+	@Autowired
+	protected RoleRepository roleRepository;
+
+	@Autowired
+	protected UserDetailsService userDetailsService;
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	protected Long createMove(String label) throws Exception {
+		// a jogada pode já ter sido cadastrada por outro teste do mesmo contexto
+		if (moveRepository.findByMove(label).isEmpty())
+			moveService.createMove(new MoveDto(label));
+		return moveRepository.findByMove(label).orElseThrow().getId();
+	}
+
+	protected Long createPlayer(String name) {
+		Role role = roleRepository.findByName("ROLE_USER").orElseThrow();
+		Player player = new Player();
+		player.setUsername(name + "-" + PLAYERS.incrementAndGet());
+		player.setName(name);
+		player.setPassword(name);
+		player.setRoles(Set.of(role));
+		return playerRepository.save(player).getId();
+	}
+
+	protected UsernamePasswordAuthenticationToken authenticationOf(Long playerId) {
+		UserDetails userDetails = userDetailsService.loadUserByUsername(playerRepository.findById(playerId)
+				.orElseThrow().getUsername());
+		return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+	}
+
+	protected void authenticate(Long playerId) {
+		SecurityContextHolder.getContext().setAuthentication(authenticationOf(playerId));
+	}
+
+}
@@ -0,0 +1,132 @@
+package tech.ada.games.jokenpo.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import tech.ada.games.jokenpo.dto.GameViewDto;
+import tech.ada.games.jokenpo.dto.MoveViewDto;
+import tech.ada.games.jokenpo.dto.PlayerMoveViewDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameArchiveTests {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void codecRoundTrip() throws Exception {
+		GameViewDto game = game(7L, 3);
+		game.getWinners().add(new PlayerViewDto(99L, "fora", null));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			GameCodec.writeHeader(out, 1);
+			GameCodec.write(out, game);
+		}
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		GameCodec.Header header = GameCodec.readHeader(in);
+		assertEquals(GameCodec.VERSION, header.version());
+		assertEquals(1, header.games());
+		assertEquals(game, GameCodec.read(in, header.version()));
+	}
+
+	@Test
+	void blocksWithoutVersionAreStillReadable() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			// bloco da versão 1: quantidade de jogos e jogos sem rodadas nem placar
+			out.writeShort(1);
+			out.writeLong(5L);
+			out.writeBoolean(false);
+			out.writeBoolean(false);
+			out.writeShort(1);
+			out.writeLong(50L);
+			out.writeLong(1L);
+			out.writeBoolean(true);
+			out.writeUTF("ana");
+			out.writeBoolean(false);
+			out.writeBoolean(true);
+			out.writeLong(3L);
+			out.writeBoolean(true);
+			out.writeUTF("Pedra");
+			out.writeByte(4);
+			out.writeShort(1);
+			out.writeShort(0);
+		}
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		GameCodec.Header header = GameCodec.readHeader(in);
+		assertEquals(1, header.version());
+		assertEquals(1, header.games());
+		GameViewDto game = GameCodec.read(in, header.version());
+		assertEquals(5L, game.getId());
+		assertTrue(game.getFinished());
+		assertNull(game.getBestOf());
+		assertNull(game.getCreator());
+		PlayerMoveViewDto playerMove = game.getPlayers().get(0);
+		assertEquals(new PlayerViewDto(1L, "ana", null), playerMove.getPlayer());
+		assertEquals(new MoveViewDto(3L, "Pedra", 4), playerMove.getMove());
+		assertNull(playerMove.getScore());
+		assertEquals(List.of(playerMove.getPlayer()), game.getWinners());
+	}
+
+	@Test
+	void archivedGamesAreFoundAfterReopening() throws Exception {
+		GameArchive archive = open();
+		List<GameViewDto> games = new ArrayList<>();
+		for (long id = 100; id > 0; id--) {
+			games.add(game(id, id % 2 == 0 ? 3 : null));
+		}
+		archive.write(games.subList(0, 60));
+		archive.write(games.subList(60, 100));
+		assertEquals(100, archive.archivedGames());
+		archive.close();
+
+		// segmento sem índice é resto de uma gravação interrompida
+		Files.write(directory.resolve("0000000002.archive"), new byte[]{1, 2, 3});
+		GameArchive reopened = open();
+		assertFalse(Files.exists(directory.resolve("0000000002.archive")));
+		assertEquals(100, reopened.archivedGames());
+		for (GameViewDto game : games) {
+			assertEquals(game, reopened.find(game.getId()).orElseThrow());
+		}
+		assertFalse(reopened.contains(101L));
+		assertTrue(reopened.find(0L).isEmpty());
+		reopened.close();
+	}
+
+	private GameArchive open() throws Exception {
+		GameArchive archive = new GameArchive();
+		ReflectionTestUtils.setField(archive, "directory", directory);
+		ReflectionTestUtils.setField(archive, "gamesPerBlock", 16);
+		archive.open();
+		return archive;
+	}
+
+	private static GameViewDto game(Long id, Integer bestOf) {
+		PlayerViewDto ana = new PlayerViewDto(1L, "ana", "Ana");
+		PlayerViewDto bia = new PlayerViewDto(2L, "bia", null);
+		GameViewDto game = new GameViewDto(id, 1L, "ana", "Ana", true,
+				LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_456_789), bestOf, bestOf == null ? null : 2);
+		Integer score = bestOf == null ? null : 2;
+		game.getPlayers().add(new PlayerMoveViewDto(id, id * 10, ana, new MoveViewDto(3L, "Pedra", 4), score));
+		game.getPlayers().add(new PlayerMoveViewDto(id, id * 10 + 1, bia, null, bestOf == null ? null : 0));
+		game.getWinners().add(ana);
+		return game;
+	}
+
+}
@@ -0,0 +1,54 @@
+package tech.ada.games.jokenpo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import tech.ada.games.jokenpo.metrics.SqlStatementCounter;
+import tech.ada.games.jokenpo.service.GameResolutionQueue;
+import tech.ada.games.jokenpo.service.LobbyService;
+import tech.ada.games.jokenpo.service.PendingMovesTracker;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MetricsConfigTests {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withUserConfiguration(MetricsConfig.class)
+			.withBean(SimpleMeterRegistry.class)
+			.withBean(SqlStatementCounter.class)
+			.withBean(PendingMovesTracker.class)
+			.withBean(GameResolutionQueue.class)
+			.withBean(LobbyService.class, () -> Mockito.mock(LobbyService.class));
+
+	@Test
+	void pendingMoveGaugesAreRegisteredWithoutTheJournal() {
+		runner.run(context -> {
+			MeterRegistry registry = bind(context);
+			assertNotNull(registry.find("jokenpo.games.open").gauge());
+			assertNotNull(registry.find("jokenpo.moves.pending").gauge());
+			assertNotNull(registry.find("jokenpo.lobby.waiting").gauge());
+		});
+	}
+
+	@Test
+	void pendingMoveGaugesAreLeftOutInJournaledMode() {
+		runner.withPropertyValues("app.journal.enabled=true").run(context -> {
+			MeterRegistry registry = bind(context);
+			assertNull(registry.find("jokenpo.games.open").gauge());
+			assertNull(registry.find("jokenpo.moves.pending").gauge());
+			assertNotNull(registry.find("jokenpo.games.resolution.queue").gauge());
+		});
+	}
+
+	private static MeterRegistry bind(ApplicationContext context) {
+		MeterRegistry registry = context.getBean(MeterRegistry.class);
+		context.getBeansOfType(MeterBinder.class).values().forEach(binder -> binder.bindTo(registry));
+		return registry;
+	}
+
+}
@@ -0,0 +1,42 @@
+package tech.ada.games.jokenpo.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadConfigTests {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withUserConfiguration(VirtualThreadConfig.class);
+
+	@Test
+	void applicationTasksRunOnDecoratedVirtualThreads() {
+		AtomicBoolean decorated = new AtomicBoolean();
+		TaskDecorator decorator = task -> () -> {
+			decorated.set(true);
+			task.run();
+		};
+		runner.withPropertyValues("app.virtual-threads.enabled=true")
+				.withBean(TaskDecorator.class, () -> decorator)
+				.run(context -> {
+					AsyncTaskExecutor executor = context.getBean(
+							TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncTaskExecutor.class);
+					assertTrue(executor.submit(() -> Thread.currentThread().isVirtual()).get());
+					assertTrue(decorated.get());
+				});
+	}
+
+	@Test
+	void platformThreadsAreKeptByDefault() {
+		runner.run(context -> assertFalse(context.containsBean(
+				TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)));
+	}
+
+}
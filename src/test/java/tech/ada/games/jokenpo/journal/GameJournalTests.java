@@ -0,0 +1,120 @@
+package tech.ada.games.jokenpo.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameJournalTests {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void appendedEventsAreReadBackAfterReopening() throws Exception {
+		GameJournal journal = open();
+		long epoch = journal.getEpoch();
+		journal.append(List.of(
+				JournalEvent.gameCreated(1, 10, 1_000, new long[]{10, 20}, "rps15"),
+				JournalEvent.movePlayed(1, 10, 3)));
+		long end = journal.append(List.of(JournalEvent.gameFinished(1, new long[]{10, 20}, new long[]{20})));
+		journal.close();
+
+		GameJournal reopened = open();
+		assertEquals(epoch, reopened.getEpoch());
+		assertEquals(end, reopened.end());
+		GameJournal.Batch batch = reopened.read(reopened.start(), 10);
+		assertEquals(end, batch.getNext());
+		List<JournalEvent> events = batch.getEvents();
+		assertEquals(3, events.size());
+		assertEquals(JournalEvent.Type.GAME_CREATED, events.get(0).getType());
+		assertEquals(10, events.get(0).getPlayerId());
+		assertEquals(1_000, events.get(0).getValue());
+		assertArrayEquals(new long[]{10, 20}, events.get(0).getPlayerIds());
+		assertEquals("rps15", events.get(0).getRuleSet());
+		assertEquals(JournalEvent.Type.MOVE_PLAYED, events.get(1).getType());
+		assertEquals(3, events.get(1).getValue());
+		assertArrayEquals(new long[]{20}, events.get(2).getWinnerIds());
+	}
+
+	@Test
+	void tornRecordIsDiscardedOnRecovery() throws Exception {
+		GameJournal journal = open();
+		journal.append(List.of(JournalEvent.movePlayed(1, 10, 1)));
+		long valid = journal.append(List.of(JournalEvent.movePlayed(1, 20, 2)));
+		journal.append(List.of(JournalEvent.movePlayed(1, 30, 3)));
+		journal.close();
+		// corrompe um byte do último registro, como uma gravação interrompida no meio
+		try (FileChannel channel = FileChannel.open(directory.resolve("0000000000.journal"),
+				StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xff}), (int) valid + 2 * Integer.BYTES + 2);
+		}
+
+		GameJournal recovered = open();
+		assertEquals(valid, recovered.end());
+		assertEquals(2, recovered.read(recovered.start(), 10).getEvents().size());
+		recovered.append(List.of(JournalEvent.movePlayed(1, 30, 4)));
+		List<JournalEvent> events = recovered.read(recovered.start(), 10).getEvents();
+		assertEquals(3, events.size());
+		assertEquals(4, events.get(2).getValue());
+	}
+
+	@Test
+	void segmentsRollAndAreReleasedOnceProjected() throws Exception {
+		GameJournal journal = open();
+		long start = journal.start();
+		int count = 0;
+		while (journal.end() >>> 32 < 2) {
+			journal.append(List.of(JournalEvent.movePlayed(count, 10, count)));
+			count++;
+		}
+		long position = start;
+		int read = 0;
+		while (position < journal.end()) {
+			GameJournal.Batch batch = journal.read(position, 1_000);
+			for (JournalEvent event : batch.getEvents()) {
+				assertEquals(read++, event.getGameId());
+			}
+			position = batch.getNext();
+		}
+		assertEquals(count, read);
+
+		journal.release(journal.end());
+		assertFalse(Files.exists(directory.resolve("0000000000.journal")));
+		assertFalse(Files.exists(directory.resolve("0000000001.journal")));
+		assertTrue(Files.exists(directory.resolve("0000000002.journal")));
+		assertEquals(2, journal.start() >>> 32);
+	}
+
+	@Test
+	void awaitReturnsAtOnceWhenEventsFollowThePosition() throws Exception {
+		GameJournal journal = open();
+		long projected = journal.append(List.of(JournalEvent.movePlayed(1, 10, 1)));
+		journal.append(List.of(JournalEvent.movePlayed(1, 20, 2)));
+
+		long start = System.nanoTime();
+		journal.awaitAppend(projected, 5_000);
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+	}
+
+	private GameJournal open() throws Exception {
+		GameJournal journal = new GameJournal();
+		ReflectionTestUtils.setField(journal, "directory", directory);
+		ReflectionTestUtils.setField(journal, "segmentSizeMb", 1);
+		journal.open();
+		return journal;
+	}
+
+}
@@ -0,0 +1,46 @@
+package tech.ada.games.jokenpo.journal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tech.ada.games.jokenpo.model.Game;
+import tech.ada.games.jokenpo.repository.GameRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class SequenceBlockTests {
+
+	private static final int IDS = 300;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Test
+	void idsNeverCollideWithHibernatePooledIds() {
+		SequenceBlock first = new SequenceBlock(jdbcTemplate, "game_seq");
+		SequenceBlock second = new SequenceBlock(jdbcTemplate, "game_seq");
+		Set<Long> ids = new HashSet<>();
+		for (int i = 0; i < IDS; i++) {
+			Game game = new Game();
+			game.setCreatedAt(LocalDateTime.now());
+			game.setFinished(false);
+			assertTrue(ids.add(gameRepository.save(game).getId()));
+			assertTrue(ids.add(first.next()));
+			if (i % 3 == 0)
+				assertTrue(ids.add(second.next()));
+		}
+		assertEquals(IDS * 2 + IDS / 3, ids.size());
+		assertTrue(ids.stream().allMatch(id -> id > 0));
+	}
+
+}
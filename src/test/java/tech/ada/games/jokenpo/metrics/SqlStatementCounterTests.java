@@ -0,0 +1,46 @@
+package tech.ada.games.jokenpo.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementCounterTests {
+
+	private final SqlStatementCounter counter = new SqlStatementCounter();
+
+	@Test
+	void statementsOnDecoratedTasksCountForTheWorkThatStartedThem() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			AtomicInteger statements = counter.start();
+			counter.inspect("select 1");
+			Runnable task = counter.decorate(() -> {
+				counter.inspect("select 2");
+				counter.inspect("select 3");
+			});
+			assertEquals(1, counter.stop());
+
+			// a tarefa roda depois que a requisição liberou a thread original
+			executor.submit(task).get();
+			assertEquals(3, statements.get());
+
+			// a thread do executor volta sem contador associado
+			executor.submit(() -> counter.inspect("select 4")).get();
+			assertEquals(3, statements.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void tasksWithoutACounterAreNotWrapped() {
+		Runnable task = () -> counter.inspect("select 1");
+		assertEquals(task, counter.decorate(task));
+		assertEquals(0, counter.stop());
+	}
+
+}
@@ -0,0 +1,72 @@
+package tech.ada.games.jokenpo.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SqlStatementMetricsFilterTests {
+
+	private final SqlStatementCounter counter = new SqlStatementCounter();
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(counter, registry);
+
+	@Test
+	void statementsAreRecordedPerRequest() throws Exception {
+		MockHttpServletRequest request = request("/api/v1/jokenpo/game/{id}");
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			counter.inspect("select 1");
+			counter.inspect("select 2");
+		});
+
+		DistributionSummary summary = summary("/api/v1/jokenpo/game/{id}");
+		assertEquals(1, summary.count());
+		assertEquals(2, summary.totalAmount());
+	}
+
+	@Test
+	void asyncRequestsAreRecordedWhenTheyComplete() throws Exception {
+		MockHttpServletRequest request = request("/api/v1/jokenpo/game/stream");
+		request.setAsyncSupported(true);
+		Runnable[] body = new Runnable[1];
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			counter.inspect("select 1");
+			req.startAsync();
+			// o executor da aplicação decora a tarefa que escreve a resposta
+			body[0] = counter.decorate(() -> {
+				counter.inspect("select 2");
+				counter.inspect("select 3");
+			});
+		});
+		assertNull(registry.find("jokenpo.http.sql.statements").summary());
+
+		Thread thread = new Thread(body[0]);
+		thread.start();
+		thread.join();
+		request.getAsyncContext().complete();
+
+		DistributionSummary summary = summary("/api/v1/jokenpo/game/stream");
+		assertEquals(1, summary.count());
+		assertEquals(3, summary.totalAmount());
+	}
+
+	private MockHttpServletRequest request(String pattern) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+		return request;
+	}
+
+	private DistributionSummary summary(String uri) {
+		return registry.get("jokenpo.http.sql.statements").tag("uri", uri).summary();
+	}
+
+}
@@ -0,0 +1,74 @@
+package tech.ada.games.jokenpo.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import tech.ada.games.jokenpo.exception.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedPasswordEncoderTests {
+
+	@Test
+	void delegatesToTheWrappedEncoder() {
+		try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4,
+				new SimpleMeterRegistry())) {
+			String hash = encoder.encode("senha");
+			assertTrue(encoder.matches("senha", hash));
+			assertFalse(encoder.matches("outra", hash));
+		}
+	}
+
+	@Test
+	void rejectsWith503WhenTheQueueIsFull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blocking = new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return "hash:" + rawPassword;
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return encodedPassword.equals(encode(rawPassword));
+			}
+		};
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, registry)) {
+			CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+			CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+			while (registry.get("jokenpo.password.hashing.queue").gauge().value() < 1) {
+				Thread.onSpinWait();
+			}
+
+			assertThrows(ServiceUnavailableException.class, () -> encoder.matches("c", "hash:c"));
+			assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+					ServiceUnavailableException.class.getAnnotation(ResponseStatus.class).value());
+			assertEquals(1, registry.get("jokenpo.password.hashing.rejected").counter().count());
+
+			release.countDown();
+			assertEquals("hash:a", running.get(10, TimeUnit.SECONDS));
+			assertEquals("hash:b", queued.get(10, TimeUnit.SECONDS));
+			assertTrue(encoder.matches("c", "hash:c"));
+		}
+	}
+
+}
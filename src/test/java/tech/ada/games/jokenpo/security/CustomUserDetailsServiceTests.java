@@ -0,0 +1,74 @@
+package tech.ada.games.jokenpo.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import tech.ada.games.jokenpo.model.Player;
+import tech.ada.games.jokenpo.model.Role;
+import tech.ada.games.jokenpo.repository.PlayerRepository;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CustomUserDetailsServiceTests {
+
+	private final PlayerRepository playerRepository = Mockito.mock(PlayerRepository.class);
+
+	private final CustomUserDetailsService userDetailsService = new CustomUserDetailsService(playerRepository,
+			new SimpleMeterRegistry(), 100, 300);
+
+	@Test
+	void repeatedLookupsAreServedFromTheCache() {
+		Mockito.when(playerRepository.findByUsername("ana")).thenReturn(Optional.of(player("ana", "hash")));
+
+		UserDetails first = userDetailsService.loadUserByUsername("ana");
+		// o ProviderManager apaga a senha depois de autenticar; a próxima consulta não pode ser afetada
+		((PlayerPrincipal) first).eraseCredentials();
+		UserDetails second = userDetailsService.loadUserByUsername("ana");
+
+		assertNotSame(first, second);
+		assertNull(first.getPassword());
+		assertEquals("hash", second.getPassword());
+		assertEquals(7L, ((PlayerPrincipal) second).getId());
+		Mockito.verify(playerRepository, Mockito.times(1)).findByUsername("ana");
+	}
+
+	@Test
+	void evictedPlayerIsReloaded() {
+		Mockito.when(playerRepository.findByUsername("ana")).thenReturn(Optional.of(player("ana", "antiga")));
+		userDetailsService.loadUserByUsername("ana");
+
+		Mockito.when(playerRepository.findByUsername("ana")).thenReturn(Optional.of(player("ana", "nova")));
+		assertEquals("antiga", userDetailsService.loadUserByUsername("ana").getPassword());
+		userDetailsService.evict("ana");
+		assertEquals("nova", userDetailsService.loadUserByUsername("ana").getPassword());
+	}
+
+	@Test
+	void unknownPlayerIsNotCached() {
+		Mockito.when(playerRepository.findByUsername("bia")).thenReturn(Optional.empty());
+		assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("bia"));
+
+		Mockito.when(playerRepository.findByUsername("bia")).thenReturn(Optional.of(player("bia", "hash")));
+		assertEquals("bia", userDetailsService.loadUserByUsername("bia").getUsername());
+	}
+
+	private static Player player(String username, String password) {
+		Role role = new Role();
+		role.setName("ROLE_USER");
+		Player player = new Player();
+		player.setId(7L);
+		player.setUsername(username);
+		player.setPassword(password);
+		player.setRoles(Set.of(role));
+		return player;
+	}
+
+}
@@ -0,0 +1,78 @@
+package tech.ada.games.jokenpo.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JwtAuthenticationFilterTests {
+
+	private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+	private final JwtTokenProvider tokenProvider = JwtTokenProviderTests.provider(60_000, true);
+
+	private final UserDetailsService userDetailsService = Mockito.mock(UserDetailsService.class);
+
+	private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService);
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void playerClaimsAuthenticateWithoutLookingUpTheUser() throws Exception {
+		PlayerPrincipal player = new PlayerPrincipal(42L, "ana", "senha", AUTHORITIES);
+		String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(player, null, AUTHORITIES));
+
+		Authentication authentication = filter(token);
+
+		PlayerPrincipal principal = (PlayerPrincipal) authentication.getPrincipal();
+		assertEquals(42L, principal.getId());
+		assertEquals("ana", principal.getUsername());
+		Mockito.verifyNoInteractions(userDetailsService);
+	}
+
+	@Test
+	void tokensWithoutPlayerClaimsFallBackToTheUserLookup() throws Exception {
+		User user = new User("ana", "senha", AUTHORITIES);
+		String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(user, null, AUTHORITIES));
+		PlayerPrincipal stored = new PlayerPrincipal(42L, "ana", "senha", AUTHORITIES);
+		Mockito.when(userDetailsService.loadUserByUsername("ana")).thenReturn(stored);
+
+		Authentication authentication = filter(token);
+
+		assertSame(stored, authentication.getPrincipal());
+		Mockito.verify(userDetailsService).loadUserByUsername("ana");
+	}
+
+	@Test
+	void requestsWithoutTokenStayAnonymous() throws Exception {
+		assertNull(filter(null));
+		Mockito.verifyNoInteractions(userDetailsService);
+	}
+
+	private Authentication filter(String token) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (token != null)
+			request.addHeader("Authorization", "Bearer " + token);
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+
+}
@@ -0,0 +1,96 @@
+package tech.ada.games.jokenpo.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtTokenProviderTests {
+
+	private static final String SECRET = Base64.getEncoder()
+			.encodeToString("segredo-de-teste-com-mais-de-32-bytes".getBytes());
+
+	private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"),
+			new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+	@Test
+	void playerIdAndRolesRoundTrip() {
+		JwtTokenProvider provider = provider(60_000, true);
+		PlayerPrincipal player = new PlayerPrincipal(42L, "ana", "senha", AUTHORITIES);
+		String token = provider.generateToken(new UsernamePasswordAuthenticationToken(player, null, AUTHORITIES));
+
+		Claims claims = provider.verify(token);
+		PlayerPrincipal principal = provider.getPrincipal(claims);
+		assertEquals(42L, principal.getId());
+		assertEquals("ana", principal.getUsername());
+		assertEquals(Set.copyOf(AUTHORITIES), Set.copyOf(principal.getAuthorities()));
+		assertEquals("ana", provider.getUsername(token));
+		// segunda verificação vem do cache e devolve as mesmas claims
+		assertEquals(claims, provider.verify(token));
+	}
+
+	@Test
+	void tokensWithoutPlayerIdHaveNoPrincipal() {
+		JwtTokenProvider provider = provider(60_000, false);
+		User user = new User("ana", "senha", AUTHORITIES);
+		String token = provider.generateToken(new UsernamePasswordAuthenticationToken(user, null, AUTHORITIES));
+
+		assertNull(provider.getPrincipal(provider.verify(token)));
+		assertEquals("ana", provider.getUsername(token));
+	}
+
+	@Test
+	void invalidTokensAreRejected() {
+		JwtTokenProvider provider = provider(60_000, true);
+		PlayerPrincipal player = new PlayerPrincipal(42L, "ana", "senha", AUTHORITIES);
+		String token = provider.generateToken(new UsernamePasswordAuthenticationToken(player, null, AUTHORITIES));
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+		assertEquals("JWT inválido", assertThrows(RuntimeException.class, () -> provider.verify(tampered))
+				.getMessage());
+		assertThrows(RuntimeException.class, () -> provider.verify("token"));
+
+		JwtTokenProvider expiring = provider(-1_000, true);
+		String expired = expiring.generateToken(new UsernamePasswordAuthenticationToken(player, null, AUTHORITIES));
+		assertEquals("Token expirado", assertThrows(RuntimeException.class, () -> expiring.verify(expired))
+				.getMessage());
+	}
+
+	@Test
+	void cachedTokensExpireWithTheToken() throws Exception {
+		JwtTokenProvider provider = provider(2_000, true);
+		PlayerPrincipal player = new PlayerPrincipal(42L, "ana", "senha", AUTHORITIES);
+		String token = provider.generateToken(new UsernamePasswordAuthenticationToken(player, null, AUTHORITIES));
+
+		Claims claims = provider.verify(token);
+		assertSame(claims, provider.verify(token));
+
+		// a expiração do JWT tem precisão de segundos
+		Thread.sleep(3_000);
+		assertEquals("Token expirado", assertThrows(RuntimeException.class, () -> provider.verify(token))
+				.getMessage());
+	}
+
+	static JwtTokenProvider provider(int expirationMs, boolean cacheEnabled) {
+		JwtTokenProvider provider = new JwtTokenProvider();
+		ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+		ReflectionTestUtils.setField(provider, "jwtExpirationInMs", expirationMs);
+		ReflectionTestUtils.setField(provider, "cacheEnabled", cacheEnabled);
+		ReflectionTestUtils.setField(provider, "cacheMaxSize", 100L);
+		provider.init();
+		return provider;
+	}
+
+}
@@ -0,0 +1,72 @@
+package tech.ada.games.jokenpo.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameEventPublisherTests {
+
+	private final GameEventPublisher gameEventPublisher = new GameEventPublisher(1);
+
+	@AfterEach
+	void close() {
+		gameEventPublisher.close();
+	}
+
+	@Test
+	void slowClientDoesNotHoldTheCaller() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		SlowEmitter emitter = new SlowEmitter(release);
+
+		long start = System.nanoTime();
+		gameEventPublisher.send(emitter, GameEventPublisher.MOVE_EVENT, 1, false);
+		gameEventPublisher.send(emitter, GameEventPublisher.RESULT_EVENT, 2, true);
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+		assertTrue(emitter.events.isEmpty());
+
+		// liberado o cliente, os eventos chegam na ordem em que foram publicados e o último encerra a conexão
+		release.countDown();
+		assertTrue(emitter.completed.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of(GameEventPublisher.MOVE_EVENT, GameEventPublisher.RESULT_EVENT), emitter.events);
+	}
+
+	private static class SlowEmitter extends SseEmitter {
+
+		private final CountDownLatch release;
+		private final List<String> events = new CopyOnWriteArrayList<>();
+		private final CountDownLatch completed = new CountDownLatch(1);
+
+		SlowEmitter(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			try {
+				release.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IOException(ex);
+			}
+			// o primeiro trecho do evento é "event:<nome>\ndata:"
+			String head = builder.build().iterator().next().getData().toString();
+			events.add(head.substring("event:".length(), head.indexOf('\n')));
+		}
+
+		@Override
+		public void complete() {
+			completed.countDown();
+		}
+
+	}
+
+}
@@ -0,0 +1,61 @@
+package tech.ada.games.jokenpo.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GameResolutionQueueTests {
+
+	private final GameResolutionQueue queue = new GameResolutionQueue();
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void gameIsQueuedOnlyAfterCommit() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		queue.submit(1L);
+		assertEquals(0, queue.size());
+
+		TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+		assertEquals(1L, queue.poll(0, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void rolledBackGameIsNeverQueued() {
+		TransactionSynchronizationManager.initSynchronization();
+		queue.submit(1L);
+		TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+				TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertEquals(0, queue.size());
+	}
+
+	@Test
+	void batchesAreDrainedInOrderUpToTheLimit() throws Exception {
+		queue.submit(1L);
+		queue.submitAll(List.of(2L, 3L, 4L));
+
+		List<Long> batch = new ArrayList<>();
+		batch.add(queue.poll(0, TimeUnit.MILLISECONDS));
+		assertEquals(2, queue.drainTo(batch, 2));
+
+		assertEquals(List.of(1L, 2L, 3L), batch);
+		assertEquals(1, queue.size());
+		assertEquals(4L, queue.poll(0, TimeUnit.MILLISECONDS));
+		assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+	}
+
+}
@@ -0,0 +1,73 @@
+package tech.ada.games.jokenpo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import tech.ada.games.jokenpo.metrics.SqlStatementCounter;
+import tech.ada.games.jokenpo.repository.GameRepository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameResolutionWorkerTests {
+
+	private final GameResolutionQueue queue = new GameResolutionQueue();
+
+	private final GameService gameService = Mockito.mock(GameService.class);
+
+	private final GameRepository gameRepository = Mockito.mock(GameRepository.class);
+
+	// o worker reaproveita a lista do lote, então guarda uma cópia de cada chamada
+	private final List<List<Long>> resolved = new CopyOnWriteArrayList<>();
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final GameResolutionWorker worker = new GameResolutionWorker(queue, gameService, gameRepository,
+			new SqlStatementCounter(), registry);
+
+	@BeforeEach
+	void recordBatches() {
+		ReflectionTestUtils.setField(worker, "batchSize", 200);
+		Mockito.doAnswer(invocation -> {
+			List<Long> batch = List.copyOf(invocation.getArgument(0));
+			resolved.add(batch);
+			if (batch.contains(1L))
+				throw new IllegalStateException("jogo 1");
+			return null;
+		}).when(gameService).resolveGames(Mockito.anyList());
+	}
+
+	@AfterEach
+	void stop() throws Exception {
+		worker.stop();
+	}
+
+	@Test
+	void unresolvedGamesAreResolvedInBatchesAtStartup() throws Exception {
+		Mockito.when(gameRepository.findUnresolvedGameIds()).thenReturn(List.of(2L, 3L, 4L));
+
+		worker.start();
+
+		Mockito.verify(gameService, Mockito.timeout(5_000)).resolveGames(Mockito.anyList());
+		worker.stop();
+		assertEquals(List.of(List.of(2L, 3L, 4L)), resolved);
+		assertEquals(1, registry.get("jokenpo.resolution.sql.statements").summary().count());
+	}
+
+	@Test
+	void failedBatchIsRetriedOneGameAtATime() throws Exception {
+		Mockito.when(gameRepository.findUnresolvedGameIds()).thenReturn(List.of(1L, 2L));
+
+		worker.start();
+
+		// a falha de um jogo não impede a finalização dos demais
+		Mockito.verify(gameService, Mockito.timeout(5_000).times(3)).resolveGames(Mockito.anyList());
+		assertEquals(List.of(List.of(1L, 2L), List.of(1L), List.of(2L)), resolved);
+	}
+
+}
@@ -0,0 +1,85 @@
+package tech.ada.games.jokenpo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.io.ClassPathResource;
+import tech.ada.games.jokenpo.model.Move;
+import tech.ada.games.jokenpo.model.PlayerMove;
+import tech.ada.games.jokenpo.repository.MoveRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameResultResolverTests {
+
+	private static final List<String> MOVES = List.of("Pedra", "Tesoura", "Papel", "Spock", "Lagarto");
+
+	private RuleSetRegistry registry;
+
+	private GameResultResolver resolver;
+
+	private Map<String, Move> moves;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		registry = new RuleSetRegistry(new ObjectMapper(), new ClassPathResource("rulesets.json"), "rpsls");
+		List<Move> catalog = new ArrayList<>();
+		for (int i = 0; i < MOVES.size(); i++) {
+			catalog.add(new Move((long) i + 1, MOVES.get(i), registry.codeOf(MOVES.get(i)).orElseThrow(), null));
+		}
+		MoveRepository moveRepository = Mockito.mock(MoveRepository.class);
+		Mockito.when(moveRepository.findAll()).thenReturn(catalog);
+		MoveCatalog moveCatalog = new MoveCatalog(moveRepository, registry);
+		moveCatalog.load();
+		resolver = new GameResultResolver(moveCatalog);
+		moves = catalog.stream().collect(Collectors.toMap(Move::getMove, move -> move));
+	}
+
+	@Test
+	void everyPlayerWithTheWinningMoveWins() {
+		List<PlayerMove> played = played("Pedra", "Tesoura", "Pedra", "Lagarto");
+
+		GameResultResolver.Result result = resolver.resolve(registry.forGame("rpsls"), played);
+
+		assertFalse(result.isDraw());
+		assertEquals("Pedra", result.getWinningMove().getMove());
+		assertEquals(List.of(played.get(0), played.get(2)), result.getWinners());
+	}
+
+	@Test
+	void cycleOfMovesIsADraw() {
+		GameResultResolver.Result result = resolver.resolve(registry.forGame("classico"),
+				played("Pedra", "Tesoura", "Papel"));
+
+		assertTrue(result.isDraw());
+		assertTrue(result.getWinners().isEmpty());
+	}
+
+	@Test
+	void playersWithoutAMoveAreIgnored() {
+		List<PlayerMove> played = played("Papel", null, "Pedra");
+
+		GameResultResolver.Result result = resolver.resolve(registry.forGame("classico"), played);
+
+		assertEquals("Papel", result.getWinningMove().getMove());
+		assertEquals(List.of(played.get(0)), result.getWinners());
+	}
+
+	private List<PlayerMove> played(String... labels) {
+		return Arrays.stream(labels).map(label -> {
+			PlayerMove playerMove = new PlayerMove();
+			playerMove.setMove(label == null ? null : moves.get(label));
+			return playerMove;
+		}).toList();
+	}
+
+}
@@ -0,0 +1,81 @@
+package tech.ada.games.jokenpo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import tech.ada.games.jokenpo.dto.LeaderboardEntryDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.model.Player;
+import tech.ada.games.jokenpo.repository.PlayerStatsRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LeaderboardServiceTests {
+
+	private LeaderboardService leaderboardService;
+
+	@BeforeEach
+	void setUp() {
+		leaderboardService = new LeaderboardService(Mockito.mock(PlayerStatsRepository.class));
+		// sem transação ativa o ranking em memória é atualizado na hora
+		for (long id = 1; id <= 10; id++) {
+			Player player = new Player();
+			player.setId(id);
+			player.setUsername("jogador" + id);
+			player.setName("Jogador " + id);
+			leaderboardService.register(player);
+		}
+	}
+
+	@Test
+	void neighboursAroundThePlayer() throws Exception {
+		assertEquals(List.of(3L, 4L, 5L, 6L, 7L), playerIds(leaderboardService.findNeighbours(5L, 2)));
+		assertEquals(List.of(3L, 4L, 5L, 6L, 7L), ranks(leaderboardService.findNeighbours(5L, 2)));
+	}
+
+	@Test
+	void neighboursAreClampedAtTheEdges() throws Exception {
+		assertEquals(List.of(1L, 2L, 3L), playerIds(leaderboardService.findNeighbours(1L, 2)));
+		assertEquals(List.of(8L, 9L, 10L), playerIds(leaderboardService.findNeighbours(10L, 2)));
+		assertEquals(List.of(8L, 9L, 10L), ranks(leaderboardService.findNeighbours(10L, 2)));
+		assertEquals(List.of(10L), playerIds(leaderboardService.findNeighbours(10L, 0)));
+	}
+
+	@Test
+	void neighboursFollowTheRecordedResults() throws Exception {
+		leaderboardService.recordResult(List.of(10L), List.of(1L), List.of());
+
+		assertEquals(List.of(10L, 2L, 3L), playerIds(leaderboardService.findNeighbours(10L, 2)));
+		assertEquals(List.of(8L, 9L, 1L), playerIds(leaderboardService.findNeighbours(1L, 2)));
+		assertEquals(List.of(8L, 9L, 10L), ranks(leaderboardService.findNeighbours(1L, 2)));
+	}
+
+	@Test
+	void pagesFollowTheRanking() throws Exception {
+		assertEquals(List.of(4L, 5L, 6L), playerIds(leaderboardService.findPage(1, 3)));
+		assertEquals(List.of(10L), playerIds(leaderboardService.findPage(3, 3)));
+		assertEquals(List.of(), leaderboardService.findPage(4, 3));
+	}
+
+	@Test
+	void invalidRequestsAreRejected() {
+		assertThrows(BadRequestException.class, () -> leaderboardService.findNeighbours(1L, -1));
+		assertThrows(BadRequestException.class, () -> leaderboardService.findNeighbours(1L, 51));
+		assertThrows(DataNotFoundException.class, () -> leaderboardService.findNeighbours(99L, 2));
+		assertThrows(BadRequestException.class, () -> leaderboardService.findPage(-1, 10));
+		assertThrows(BadRequestException.class, () -> leaderboardService.findPage(0, 101));
+	}
+
+	private static List<Long> playerIds(List<LeaderboardEntryDto> entries) {
+		return entries.stream().map(entry -> entry.getPlayer().getId()).toList();
+	}
+
+	private static List<Long> ranks(List<LeaderboardEntryDto> entries) {
+		return entries.stream().map(LeaderboardEntryDto::getRank).toList();
+	}
+
+}
@@ -0,0 +1,177 @@
+package tech.ada.games.jokenpo.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import tech.ada.games.jokenpo.dto.GameEventDto;
+import tech.ada.games.jokenpo.dto.LobbyTicketDto;
+import tech.ada.games.jokenpo.dto.PlayerViewDto;
+import tech.ada.games.jokenpo.exception.BadRequestException;
+import tech.ada.games.jokenpo.exception.DataConflictException;
+import tech.ada.games.jokenpo.exception.DataNotFoundException;
+import tech.ada.games.jokenpo.repository.PlayerRepository;
+import tech.ada.games.jokenpo.security.PlayerPrincipal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LobbyServiceTests {
+
+	private final GameService gameService = Mockito.mock(GameService.class);
+
+	private final GameEventPublisher gameEventPublisher = Mockito.mock(GameEventPublisher.class);
+
+	private final PlayerRepository playerRepository = Mockito.mock(PlayerRepository.class);
+
+	private final LobbyService lobbyService = new LobbyService(gameService, gameEventPublisher, playerRepository);
+
+	private final List<List<Long>> created = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ReflectionTestUtils.setField(lobbyService, "maxGameSize", 10);
+		ReflectionTestUtils.setField(lobbyService, "maxGamesPerBatch", 500);
+		// cada jogo formado recebe o id 100 + a ordem em que foi criado
+		Mockito.when(gameService.newMatchedGames(Mockito.anyList())).thenAnswer(invocation -> {
+			List<List<Long>> groups = invocation.getArgument(0);
+			List<Long> gameIds = new ArrayList<>();
+			for (List<Long> group : groups) {
+				created.add(group);
+				gameIds.add(100L + created.size());
+			}
+			return gameIds;
+		});
+	}
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void playersAreMatchedInArrivalOrder() throws Exception {
+		enqueue(2, 1L, 2L, 3L, 4L, 5L);
+
+		lobbyService.match();
+
+		assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L)), created);
+		assertEquals(new LobbyTicketDto(2, 101L), ticketOf(2L));
+		assertEquals(new LobbyTicketDto(2, 102L), ticketOf(3L));
+		assertEquals(new LobbyTicketDto(2, null), ticketOf(5L));
+		assertEquals(1, lobbyService.waitingPlayers());
+		Mockito.verify(gameEventPublisher).publish(LobbyService.MATCH_EVENT, new GameEventDto(101L, 2, null),
+				List.of(1L, 2L));
+	}
+
+	@Test
+	void gameSizesAreMatchedSeparately() throws Exception {
+		enqueue(2, 1L);
+		enqueue(3, 2L, 3L);
+		enqueue(2, 4L);
+
+		lobbyService.match();
+
+		assertEquals(List.of(List.of(1L, 4L)), created);
+		assertEquals(2, lobbyService.waitingPlayers());
+
+		enqueue(3, 5L);
+		lobbyService.match();
+
+		assertEquals(List.of(2L, 3L, 5L), created.get(1));
+	}
+
+	@Test
+	void playersWhoLeftAreSkipped() throws Exception {
+		enqueue(2, 1L, 2L, 3L);
+		authenticate(2L);
+		lobbyService.leave();
+
+		lobbyService.match();
+
+		assertEquals(List.of(List.of(1L, 3L)), created);
+		authenticate(2L);
+		assertThrows(DataNotFoundException.class, lobbyService::findTicket);
+	}
+
+	@Test
+	void batchesAreLimitedAndTheRestKeepsItsPlace() throws Exception {
+		ReflectionTestUtils.setField(lobbyService, "maxGamesPerBatch", 2);
+		enqueue(2, LongStream.rangeClosed(1, 7).boxed().toArray(Long[]::new));
+
+		lobbyService.match();
+		assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L)), created);
+
+		lobbyService.match();
+		assertEquals(List.of(5L, 6L), created.get(2));
+		assertEquals(1, lobbyService.waitingPlayers());
+	}
+
+	@Test
+	void deletedPlayerIsDroppedWithoutBlockingTheBatch() throws Exception {
+		enqueue(2, 1L, 2L, 3L, 4L);
+		Mockito.when(gameService.newMatchedGames(Mockito.anyList())).thenAnswer(invocation -> {
+			List<List<Long>> groups = invocation.getArgument(0);
+			if (groups.stream().anyMatch(group -> group.contains(2L)))
+				throw new DataNotFoundException("O jogador não está cadastrado!");
+			created.addAll(groups);
+			return List.of(100L + created.size());
+		});
+		Mockito.when(playerRepository.findViewsByIdIn(Mockito.<Collection<Long>>any()))
+				.thenReturn(List.of(new PlayerViewDto(1L, "jogador-1", "Jogador 1")));
+
+		lobbyService.match();
+
+		// o grupo válido vira jogo; o jogador 1 volta para a fila e o 2 sai do lobby
+		assertEquals(List.of(List.of(3L, 4L)), created);
+		assertEquals(new LobbyTicketDto(2, null), ticketOf(1L));
+		authenticate(2L);
+		assertThrows(DataNotFoundException.class, lobbyService::findTicket);
+
+		enqueue(2, 5L);
+		lobbyService.match();
+		assertEquals(List.of(1L, 5L), created.get(1));
+	}
+
+	@Test
+	void invalidRequestsAreRejected() throws Exception {
+		authenticate(1L);
+		assertThrows(BadRequestException.class, () -> lobbyService.enqueue(1));
+		assertThrows(BadRequestException.class, () -> lobbyService.enqueue(11));
+		assertThrows(DataNotFoundException.class, lobbyService::leave);
+
+		lobbyService.enqueue(2);
+		assertThrows(DataConflictException.class, () -> lobbyService.enqueue(3));
+
+		SecurityContextHolder.clearContext();
+		assertThrows(DataNotFoundException.class, () -> lobbyService.enqueue(2));
+	}
+
+	private void enqueue(int size, Long... playerIds) throws Exception {
+		for (Long playerId : playerIds) {
+			authenticate(playerId);
+			lobbyService.enqueue(size);
+		}
+	}
+
+	private LobbyTicketDto ticketOf(Long playerId) throws DataNotFoundException {
+		authenticate(playerId);
+		return lobbyService.findTicket();
+	}
+
+	private static void authenticate(Long playerId) {
+		PlayerPrincipal player = new PlayerPrincipal(playerId, "jogador-" + playerId, "senha", List.of());
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken(player, null, List.of()));
+	}
+
+}
@@ -0,0 +1,71 @@
+package tech.ada.games.jokenpo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.io.ClassPathResource;
+import tech.ada.games.jokenpo.model.Move;
+import tech.ada.games.jokenpo.repository.MoveRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveCatalogTests {
+
+	private RuleSetRegistry registry;
+
+	private MoveRepository moveRepository;
+
+	private MoveCatalog moveCatalog;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		registry = new RuleSetRegistry(new ObjectMapper(), new ClassPathResource("rulesets.json"), "rpsls");
+		moveRepository = Mockito.mock(MoveRepository.class);
+		moveCatalog = new MoveCatalog(moveRepository, registry);
+	}
+
+	@Test
+	void loadAssignsTheCanonicalCodeToLegacyMoves() {
+		Move pedra = new Move(1L, "Pedra", null, null);
+		Move papel = new Move(2L, "Papel", registry.codeOf("Papel").orElseThrow(), null);
+		Mockito.when(moveRepository.findAll()).thenReturn(List.of(pedra, papel));
+
+		moveCatalog.load();
+
+		int code = registry.codeOf("Pedra").orElseThrow();
+		assertEquals(code, pedra.getCode());
+		Mockito.verify(moveRepository).save(pedra);
+		Mockito.verify(moveRepository, Mockito.never()).save(papel);
+		assertEquals(code, moveCatalog.codeOf(1L));
+		assertEquals("Papel", moveCatalog.findById(2L).orElseThrow().getMove());
+	}
+
+	@Test
+	void unknownMovesAreLeftOutOfTheCatalog() {
+		Mockito.when(moveRepository.findAll()).thenReturn(List.of(new Move(1L, "Canhão", null, null)));
+
+		moveCatalog.load();
+
+		assertTrue(moveCatalog.findById(1L).isEmpty());
+		assertEquals(0, moveCatalog.codeOf(1L));
+		Mockito.verify(moveRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	void registeredMoveIsServedWithoutReloading() {
+		Mockito.when(moveRepository.findAll()).thenReturn(List.of());
+		moveCatalog.load();
+
+		moveCatalog.register(new Move(7L, "Spock", registry.codeOf("Spock").orElseThrow(), null));
+
+		assertEquals(registry.codeOf("Spock").orElseThrow(), moveCatalog.codeOf(7L));
+		assertEquals(0, moveCatalog.codeOf(null));
+		assertTrue(moveCatalog.findById(null).isEmpty());
+		Mockito.verify(moveRepository, Mockito.times(1)).findAll();
+	}
+
+}
@@ -0,0 +1,86 @@
+package tech.ada.games.jokenpo.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PendingMovesTrackerTests {
+
+	private final PendingMovesTracker tracker = new PendingMovesTracker();
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void decrementCountsDownTheTrackedMoves() {
+		tracker.track(1L, 3);
+
+		assertEquals(2, tracker.decrement(1L, () -> 99));
+		assertEquals(1, tracker.decrement(1L, () -> 99));
+		assertEquals(1, tracker.openGames());
+		assertEquals(1, tracker.pendingMoves());
+
+		tracker.remove(1L);
+		assertEquals(0, tracker.openGames());
+	}
+
+	@Test
+	void untrackedGameIsLoadedOnce() {
+		AtomicInteger loads = new AtomicInteger();
+
+		assertEquals(1, tracker.decrement(2L, () -> {
+			loads.incrementAndGet();
+			return 2;
+		}));
+		assertEquals(0, tracker.decrement(2L, loads::incrementAndGet));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void rolledBackMoveIsCountedAgain() {
+		tracker.track(3L, 2);
+
+		TransactionSynchronizationManager.initSynchronization();
+		assertEquals(1, tracker.decrement(3L, () -> 99));
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertEquals(2, tracker.pendingMoves());
+	}
+
+	@Test
+	void committedMoveStaysCounted() {
+		tracker.track(4L, 2);
+
+		TransactionSynchronizationManager.initSynchronization();
+		assertEquals(1, tracker.decrement(4L, () -> 99));
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertEquals(1, tracker.pendingMoves());
+	}
+
+	@Test
+	void gameIsOnlyTrackedAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		tracker.track(5L, 2);
+		assertEquals(0, tracker.openGames());
+
+		TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+		assertEquals(1, tracker.openGames());
+	}
+
+	private static void complete(int status) {
+		TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+				status);
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+}
@@ -0,0 +1,62 @@
+package tech.ada.games.jokenpo.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import tech.ada.games.jokenpo.ServiceTestSupport;
+import tech.ada.games.jokenpo.dto.LeaderboardEntryDto;
+import tech.ada.games.jokenpo.dto.PlayerDto;
+import tech.ada.games.jokenpo.exception.DataConflictException;
+import tech.ada.games.jokenpo.repository.PlayerStatsRepository;
+import tech.ada.games.jokenpo.security.PlayerPrincipal;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerServiceTests extends ServiceTestSupport {
+
+	@Autowired
+	private PlayerService playerService;
+
+	@Autowired
+	private LeaderboardService leaderboardService;
+
+	@Autowired
+	private PlayerStatsRepository playerStatsRepository;
+
+	@Test
+	void createdPlayerEntersTheRankingAfterCommit() throws Exception {
+		playerService.createPlayer(new PlayerDto("ranking-novo", "123456", "Novo"));
+		Long playerId = playerRepository.findByUsername("ranking-novo").orElseThrow().getId();
+
+		assertTrue(playerStatsRepository.existsById(playerId));
+		List<LeaderboardEntryDto> window = leaderboardService.findNeighbours(playerId, 0);
+		assertEquals(1, window.size());
+		assertEquals(playerId, window.get(0).getPlayer().getId());
+	}
+
+	@Test
+	void deletedPlayerIsEvictedFromTheUserCache() throws Exception {
+		playerService.createPlayer(new PlayerDto("cache-removido", "123456", "Removido"));
+		Long playerId = playerRepository.findByUsername("cache-removido").orElseThrow().getId();
+		assertEquals(playerId, ((PlayerPrincipal) userDetailsService.loadUserByUsername("cache-removido")).getId());
+
+		playerService.deletePlayer(playerId);
+
+		assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("cache-removido"));
+	}
+
+	@Test
+	void duplicatedUsernameIsRejected() throws Exception {
+		playerService.createPlayer(new PlayerDto("ranking-repetido", "123456", "Repetido"));
+		long players = playerRepository.count();
+
+		assertThrows(DataConflictException.class,
+				() -> playerService.createPlayer(new PlayerDto("ranking-repetido", "654321", "Outro")));
+		assertEquals(players, playerRepository.count());
+	}
+
+}
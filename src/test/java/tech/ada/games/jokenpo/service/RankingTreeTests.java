@@ -0,0 +1,66 @@
+package tech.ada.games.jokenpo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RankingTreeTests {
+
+	@Test
+	void rankAndSelectFollowTheComparatorOrder() {
+		RankingTree<Integer> tree = new RankingTree<>(Comparator.<Integer>reverseOrder());
+		List<Integer> expected = new ArrayList<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 2_000; i++) {
+			int value = random.nextInt(1_000_000);
+			if (expected.contains(value))
+				continue;
+			tree.insert(value);
+			expected.add(value);
+		}
+		for (int i = 0; i < 500; i++) {
+			Integer value = expected.remove(random.nextInt(expected.size()));
+			tree.remove(value);
+			assertEquals(-1, tree.rank(value));
+		}
+		expected.sort(Comparator.reverseOrder());
+
+		assertEquals(expected.size(), tree.size());
+		for (int rank = 0; rank < expected.size(); rank++) {
+			assertEquals(rank, tree.rank(expected.get(rank)));
+			assertEquals(expected.get(rank), tree.select(rank));
+		}
+		assertNull(tree.select(expected.size()));
+	}
+
+	@Test
+	void rangeIsClampedToTheTree() {
+		RankingTree<Integer> tree = new RankingTree<>(Comparator.<Integer>naturalOrder());
+		for (int value = 10; value >= 1; value--) {
+			tree.insert(value);
+		}
+		assertEquals(List.of(1, 2, 3), tree.range(0, 3));
+		assertEquals(List.of(9, 10), tree.range(8, 5));
+		assertEquals(List.of(), tree.range(10, 3));
+		assertEquals(List.of(1, 2), tree.range(-1, 3));
+	}
+
+	@Test
+	void clearEmptiesTheTree() {
+		RankingTree<Integer> tree = new RankingTree<>(Comparator.<Integer>naturalOrder());
+		tree.insert(1);
+		tree.insert(2);
+		tree.clear();
+		assertEquals(0, tree.size());
+		assertEquals(-1, tree.rank(1));
+		tree.insert(3);
+		assertEquals(0, tree.rank(3));
+	}
+
+}
@@ -0,0 +1,110 @@
+package tech.ada.games.jokenpo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RuleSetTests {
+
+	private static RuleSetRegistry registry;
+
+	@BeforeAll
+	static void loadRules() throws Exception {
+		registry = new RuleSetRegistry(new ObjectMapper(), new ClassPathResource("rulesets.json"), "rpsls");
+	}
+
+	@Test
+	void rpslsMatchesTheOriginalRules() {
+		RuleSet rpsls = registry.forGame("rpsls");
+		List<String> moves = List.of("Spock", "Tesoura", "Papel", "Pedra", "Lagarto");
+		for (int mask = 1; mask < 1 << moves.size(); mask++) {
+			List<String> played = new ArrayList<>();
+			for (int i = 0; i < moves.size(); i++) {
+				if ((mask & 1 << i) != 0)
+					played.add(moves.get(i));
+			}
+			assertEquals(originalWinner(played), winner(rpsls, played), "Jogadas " + played);
+		}
+	}
+
+	@Test
+	void classicRules() {
+		RuleSet classico = registry.forGame("classico");
+		assertEquals("Pedra", winner(classico, List.of("Pedra", "Tesoura")));
+		assertEquals("Tesoura", winner(classico, List.of("Tesoura", "Papel", "Tesoura")));
+		assertEquals("Papel", winner(classico, List.of("Pedra", "Papel")));
+		assertNull(winner(classico, List.of("Pedra", "Tesoura", "Papel")));
+		assertNull(winner(classico, List.of("Pedra", "Pedra")));
+	}
+
+	@Test
+	void rps15EachMoveBeatsTheSevenFollowingMoves() {
+		RuleSet rps15 = registry.forGame("rps15");
+		List<String> moves = rps15.getMoves();
+		assertEquals(15, moves.size());
+		for (int i = 0; i < moves.size(); i++) {
+			for (int k = 1; k < moves.size(); k++) {
+				String other = moves.get((i + k) % moves.size());
+				String expected = k <= 7 ? moves.get(i) : other;
+				assertEquals(expected, winner(rps15, List.of(moves.get(i), other)), moves.get(i) + " x " + other);
+			}
+		}
+		assertEquals("Pedra", winner(rps15, List.of("Pedra", "Fogo")));
+		assertEquals("Água", winner(rps15, List.of("Água", "Arma", "Fogo")));
+		assertEquals("Papel", winner(rps15, List.of("Pedra", "Papel")));
+		assertNull(winner(rps15, List.of("Pedra", "Tesoura", "Papel")));
+	}
+
+	@Test
+	void movesOutsideTheRulesAreIgnored() {
+		RuleSet classico = registry.forGame("classico");
+		int spock = registry.codeOf("Spock").orElseThrow();
+		int pedra = registry.codeOf("Pedra").orElseThrow();
+		int tesoura = registry.codeOf("Tesoura").orElseThrow();
+		assertEquals(pedra, classico.winningCode(new int[]{spock, pedra, tesoura, 0, 999}));
+		assertEquals(0, classico.winningCode(new int[]{spock}));
+		assertEquals(0, classico.winningCode(new int[0]));
+		assertNotEquals(0, registry.forGame("rpsls").winningCode(new int[]{spock, pedra}));
+	}
+
+	@Test
+	void unknownGameRulesFallBackToTheDefault() {
+		assertEquals("rpsls", registry.forGame(null).getName());
+		assertEquals("rpsls", registry.forGame("inexistente").getName());
+	}
+
+	private static String winner(RuleSet ruleSet, List<String> played) {
+		int[] codes = played.stream().mapToInt(move -> registry.codeOf(move).orElseThrow()).toArray();
+		int code = ruleSet.winningCode(codes);
+		return code == 0 ? null : registry.getMoves().get(code - 1);
+	}
+
+	// cadeia de condições usada antes das regras compiladas
+	private static String originalWinner(List<String> played) {
+		boolean isSpock = played.contains("Spock");
+		boolean isTesoura = played.contains("Tesoura");
+		boolean isPapel = played.contains("Papel");
+		boolean isPedra = played.contains("Pedra");
+		boolean isLagarto = played.contains("Lagarto");
+		if (isSpock && (isTesoura || isPedra) && !isPapel && !isLagarto)
+			return "Spock";
+		if (isTesoura && (isPapel || isLagarto) && !isSpock && !isPedra)
+			return "Tesoura";
+		if (isPapel && (isPedra || isSpock) && !isTesoura && !isLagarto)
+			return "Papel";
+		if (isPedra && (isLagarto || isTesoura) && !isSpock && !isPapel)
+			return "Pedra";
+		if (isLagarto && (isSpock || isPapel) && !isTesoura && !isPedra)
+			return "Lagarto";
+		return null;
+	}
+
+}
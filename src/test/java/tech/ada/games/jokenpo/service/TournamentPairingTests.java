@@ -0,0 +1,149 @@
+package tech.ada.games.jokenpo.service;
+
+import org.junit.jupiter.api.Test;
+import tech.ada.games.jokenpo.service.TournamentPairing.Pairing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TournamentPairingTests {
+
+	private final TournamentPairing pairing = new TournamentPairing();
+
+	@Test
+	void eliminationSeedsTheBracketAndGivesByesToTheTopSeeds() {
+		assertEquals(List.of("0-7", "3-4", "1-6", "2-5"), describe(pairing.elimination(8)));
+		assertEquals(List.of("0-bye", "3-4", "1-bye", "2-bye"), describe(pairing.elimination(5)));
+		assertEquals(List.of("0-1"), describe(pairing.elimination(2)));
+
+		for (int players = 2; players <= 70; players++) {
+			int size = TournamentPairing.bracketSize(players);
+			assertTrue(size >= players && size < 2 * players && Integer.bitCount(size) == 1);
+			Pairing[] pairings = pairing.elimination(players);
+			assertEquals(size / 2, pairings.length);
+			Set<Integer> seen = new HashSet<>();
+			Set<Integer> byes = new HashSet<>();
+			for (Pairing p : pairings) {
+				assertTrue(seen.add(p.getPlayerOne()));
+				if (p.isBye())
+					byes.add(p.getPlayerOne());
+				else
+					assertTrue(seen.add(p.getPlayerTwo()));
+			}
+			assertEquals(players, seen.size());
+			Set<Integer> topSeeds = new HashSet<>();
+			for (int seed = 0; seed < size - players; seed++) {
+				topSeeds.add(seed);
+			}
+			assertEquals(topSeeds, byes);
+		}
+	}
+
+	@Test
+	void roundRobinPairsEveryoneExactlyOnce() {
+		for (int players : new int[]{2, 3, 4, 7, 10, 2_501}) {
+			int rounds = players % 2 == 0 ? players - 1 : players;
+			Set<Long> matches = new HashSet<>();
+			int[] byes = new int[players];
+			for (int round = 1; round <= rounds; round++) {
+				boolean[] playing = new boolean[players];
+				for (Pairing p : pairing.roundRobin(players, round)) {
+					assertFalse(playing[p.getPlayerOne()]);
+					playing[p.getPlayerOne()] = true;
+					if (p.isBye()) {
+						byes[p.getPlayerOne()]++;
+						continue;
+					}
+					assertFalse(playing[p.getPlayerTwo()]);
+					playing[p.getPlayerTwo()] = true;
+					int low = Math.min(p.getPlayerOne(), p.getPlayerTwo());
+					int high = Math.max(p.getPlayerOne(), p.getPlayerTwo());
+					assertTrue(matches.add((long) low * players + high), "Revanche na rodada " + round);
+				}
+			}
+			assertEquals((long) players * (players - 1) / 2, matches.size());
+			int expectedByes = players % 2;
+			assertTrue(Arrays.stream(byes).allMatch(count -> count == expectedByes));
+		}
+	}
+
+	@Test
+	void rankUsesPointsThenBuchholzThenSeed() {
+		int[] points = {3, 6, 3, 0, 3};
+		int[][] opponents = {{1}, {0, 2}, {1, 4}, {}, {2}};
+		long[] buchholz = pairing.buchholz(points, opponents);
+		assertArrayEquals(new long[]{6, 6, 9, 0, 3}, buchholz);
+		assertArrayEquals(new int[]{1, 2, 0, 4, 3}, pairing.rank(points, buchholz));
+	}
+
+	@Test
+	void swissPairsWithinScoreBlocksAndAvoidsRematches() {
+		// classificação já ordenada: 0 e 1 com 6 pontos, 2 a 4 com 3 e 5 e 6 sem pontos
+		int[] order = {0, 1, 2, 3, 4, 5, 6};
+		int[] points = {6, 6, 3, 3, 3, 0, 0};
+		boolean[] hadBye = new boolean[7];
+		hadBye[6] = true;
+		int[][] opponents = {{1}, {0}, {3}, {2}, {}, {}, {}};
+
+		Pairing[] pairings = pairing.swiss(order, points, hadBye, opponents);
+
+		// a folga vai para o pior colocado que ainda não folgou; o excedente do grupo de 3 pontos desce para o
+		// bloco seguinte e a revanche entre 0 e 1 é inevitável no bloco de dois jogadores
+		assertEquals(List.of("0-1", "2-4", "3-6", "5-bye"), describe(pairings));
+	}
+
+	@Test
+	void swissByeFallsBackToTheLastPlacedWhenEveryoneHadOne() {
+		int[] order = {2, 0, 1};
+		int[] points = {3, 0, 6};
+		boolean[] hadBye = {true, true, true};
+		int[][] opponents = {{1}, {2}, {0}};
+
+		Pairing[] pairings = pairing.swiss(order, points, hadBye, opponents);
+
+		assertEquals(List.of("2-0", "1-bye"), describe(pairings));
+	}
+
+	@Test
+	void swissPairsLargeFieldsWithEveryPlayerOnce() {
+		int players = 5_001;
+		int[] points = new int[players];
+		for (int i = 0; i < players; i++) {
+			points[i] = (i * 7) % 5;
+		}
+		int[][] opponents = new int[players][0];
+		int[] order = pairing.rank(points, pairing.buchholz(points, opponents));
+		Pairing[] pairings = pairing.swiss(order, points, new boolean[players], opponents);
+
+		assertEquals(players / 2 + 1, pairings.length);
+		boolean[] seen = new boolean[players];
+		for (Pairing p : pairings) {
+			assertFalse(seen[p.getPlayerOne()]);
+			seen[p.getPlayerOne()] = true;
+			if (p.isBye())
+				continue;
+			assertFalse(seen[p.getPlayerTwo()]);
+			seen[p.getPlayerTwo()] = true;
+			assertEquals(points[p.getPlayerOne()], points[p.getPlayerTwo()], 1);
+		}
+		assertTrue(pairings[pairings.length - 1].isBye());
+		assertEquals(order[players - 1], pairings[pairings.length - 1].getPlayerOne());
+	}
+
+	private static List<String> describe(Pairing[] pairings) {
+		List<String> described = new ArrayList<>();
+		for (Pairing p : pairings) {
+			described.add(p.getPlayerOne() + "-" + (p.isBye() ? "bye" : String.valueOf(p.getPlayerTwo())));
+		}
+		return described;
+	}
+
+}
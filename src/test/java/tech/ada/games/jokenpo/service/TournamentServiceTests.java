@@ -0,0 +1,81 @@
+package tech.ada.games.jokenpo.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import tech.ada.games.jokenpo.ServiceTestSupport;
+import tech.ada.games.jokenpo.dto.GameMoveDto;
+import tech.ada.games.jokenpo.dto.TournamentDto;
+import tech.ada.games.jokenpo.dto.TournamentMatchDto;
+import tech.ada.games.jokenpo.dto.TournamentStandingDto;
+import tech.ada.games.jokenpo.model.TournamentFormat;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TournamentServiceTests extends ServiceTestSupport {
+
+	@Autowired
+	private TournamentService tournamentService;
+
+	@Autowired
+	private GameService gameService;
+
+	@Test
+	void standingsArePagedFromThePersistedOrder() throws Exception {
+		Long pedra = createMove("Pedra");
+		Long tesoura = createMove("Tesoura");
+		Long ana = createPlayer("ana");
+		Long bia = createPlayer("bia");
+		Long caio = createPlayer("caio");
+		Long davi = createPlayer("davi");
+
+		authenticate(ana);
+		Long tournament = tournamentService.createTournament(TournamentDto.builder().name("Torneio")
+				.format(TournamentFormat.ROUND_ROBIN).ruleSet("classico").players(List.of(ana, bia, caio, davi))
+				.build());
+		// antes de qualquer jogo a classificação segue a ordem de inscrição
+		assertEquals(List.of(ana, bia, caio, davi), playerIds(tournamentService.findStandings(tournament, 0, 10)));
+
+		// primeira rodada: ana x davi e bia x caio; davi e bia vencem
+		List<TournamentMatchDto> round = tournamentService.findRound(tournament, 1);
+		assertEquals(2, round.size());
+		for (TournamentMatchDto match : round) {
+			Long winner = match.getPlayerOneId().equals(ana) ? match.getPlayerTwoId() : match.getPlayerOneId();
+			play(match.getPlayerOneId(), match.getGameId(), match.getPlayerOneId().equals(winner) ? pedra : tesoura);
+			play(match.getPlayerTwoId(), match.getGameId(), match.getPlayerTwoId().equals(winner) ? pedra : tesoura);
+		}
+		awaitRound(tournament, 2);
+
+		// vencedores na frente; entre os derrotados, o desempate soma os pontos de quem já enfrentaram ou vão enfrentar
+		List<TournamentStandingDto> first = tournamentService.findStandings(tournament, 0, 2);
+		assertEquals(List.of(bia, davi), playerIds(first));
+		assertEquals(List.of(1L, 2L), first.stream().map(TournamentStandingDto::getRank).toList());
+		assertEquals(List.of(3, 3), first.stream().map(TournamentStandingDto::getPoints).toList());
+		List<TournamentStandingDto> second = tournamentService.findStandings(tournament, 1, 2);
+		assertEquals(List.of(ana, caio), playerIds(second));
+		assertEquals(List.of(3L, 4L), second.stream().map(TournamentStandingDto::getRank).toList());
+		assertEquals(List.of(6L, 6L), second.stream().map(TournamentStandingDto::getBuchholz).toList());
+		assertTrue(tournamentService.findStandings(tournament, 2, 2).isEmpty());
+	}
+
+	private void play(Long playerId, Long game, Long move) throws Exception {
+		authenticate(playerId);
+		gameService.insertPlayerMove(new GameMoveDto(game, move));
+	}
+
+	private void awaitRound(Long tournament, int round) throws Exception {
+		// o avanço é feito pelo TournamentScheduler
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (tournamentService.findTournament(tournament).getRound() < round) {
+			assertTrue(System.currentTimeMillis() < deadline, "A rodada " + round + " não foi criada");
+			Thread.sleep(50);
+		}
+	}
+
+	private static List<Long> playerIds(List<TournamentStandingDto> standings) {
+		return standings.stream().map(standing -> standing.getPlayer().getId()).toList();
+	}
+
+}
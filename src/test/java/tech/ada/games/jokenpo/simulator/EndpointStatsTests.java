@@ -0,0 +1,61 @@
+package tech.ada.games.jokenpo.simulator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EndpointStatsTests {
+
+	private Locale locale;
+
+	// o relatório usa o separador decimal da máquina
+	@BeforeEach
+	void fixLocale() {
+		locale = Locale.getDefault();
+		Locale.setDefault(Locale.ROOT);
+	}
+
+	@AfterEach
+	void restoreLocale() {
+		Locale.setDefault(locale);
+	}
+
+	@Test
+	void reportSummarizesRequestsErrorsAndLatencies() {
+		EndpointStats stats = new EndpointStats("newGame");
+		for (int i = 1; i <= 100; i++)
+			stats.record(TimeUnit.MILLISECONDS.toNanos(i), i <= 95 ? 201 : i <= 98 ? 409 : 500);
+
+		String[] columns = stats.report(10).trim().split("\\s+", 9);
+
+		assertEquals("newGame", columns[0]);
+		assertEquals("100", columns[1]);
+		assertEquals("10.0", columns[2]);
+		assertEquals("5.00%", columns[3]);
+		assertEquals(50.0, Double.parseDouble(columns[4]), 0.1);
+		assertEquals(99.0, Double.parseDouble(columns[5]), 0.1);
+		assertEquals(100.0, Double.parseDouble(columns[7]), 0.1);
+		assertEquals("{409=3, 500=2}", columns[8]);
+	}
+
+	@Test
+	void warmupIsDiscardedOnReset() {
+		EndpointStats stats = new EndpointStats("insertPlayerMove");
+		stats.record(TimeUnit.SECONDS.toNanos(10), 500);
+		stats.reset();
+		stats.record(TimeUnit.MILLISECONDS.toNanos(2), 200);
+
+		String[] columns = stats.report(1).trim().split("\\s+");
+
+		assertEquals(8, columns.length);
+		assertEquals("1", columns[1]);
+		assertEquals("0.00%", columns[3]);
+		assertEquals(2.0, Double.parseDouble(columns[7]), 0.01);
+	}
+
+}
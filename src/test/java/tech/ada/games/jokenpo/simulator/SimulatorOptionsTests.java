@@ -0,0 +1,50 @@
+package tech.ada.games.jokenpo.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimulatorOptionsTests {
+
+	@Test
+	void optionsAreParsed() {
+		SimulatorOptions options = SimulatorOptions.parse("--players=20", "--rate=12.5", "--duration=10",
+				"--warmup=0", "--threads=8", "--seed=7", "--mix=2:80, 3:15,5");
+
+		assertEquals(20, options.players);
+		assertEquals(12.5, options.rate);
+		assertEquals(10, options.durationSeconds);
+		assertEquals(0, options.warmupSeconds);
+		assertEquals(8, options.threads);
+		assertEquals(7, options.seed);
+		assertEquals(Map.of(2, 80, 3, 15, 5, 1), options.mix);
+		assertEquals(List.of(2, 3, 5), List.copyOf(options.mix.keySet()));
+	}
+
+	@Test
+	void unknownOptionsArePassedToTheApplication() {
+		SimulatorOptions options = SimulatorOptions.parse("", "--app.async-resolution.enabled=true",
+				"--server.port=0");
+
+		assertEquals(List.of("--app.async-resolution.enabled=true", "--server.port=0"), options.applicationArgs);
+		assertEquals(100, options.players);
+		assertEquals(Map.of(2, 1), options.mix);
+	}
+
+	@Test
+	void invalidOptionsAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> SimulatorOptions.parse("players=10"));
+		assertThrows(IllegalArgumentException.class, () -> SimulatorOptions.parse("--players"));
+		assertThrows(IllegalArgumentException.class, () -> SimulatorOptions.parse("--rate=0"));
+		assertThrows(IllegalArgumentException.class, () -> SimulatorOptions.parse("--threads=0"));
+		assertThrows(IllegalArgumentException.class, () -> SimulatorOptions.parse("--mix=1:10"));
+		assertThrows(IllegalArgumentException.class, () -> SimulatorOptions.parse("--mix=2:0"));
+		// o maior jogo da mistura precisa caber no número de jogadores
+		assertThrows(IllegalArgumentException.class, () -> SimulatorOptions.parse("--players=4", "--mix=2,5"));
+	}
+
+}